@@ -0,0 +1,129 @@
+/*
+ * Java UI Extensions project.
+ * https://ivanp2015.github.io/javauiext
+ *
+ * Copyright (c) 2018, Ivan Pizhenko. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Ivan Pizhenko designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Ivan Pizhenko in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package io.github.ivanp2015.javauiext.benchmarks;
+
+import io.github.ivanp2015.javauiext.java.awt.helpers.FontFamilyCatalog;
+import io.github.ivanp2015.javauiext.javax.swing.ListSearchIndex;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Font family lookup and incremental search over a synthetic catalog.
+ *
+ * @author Ivan Pizhenko
+ * @since 0.1.1
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+@State(Scope.Thread)
+public class FontCatalogBenchmark {
+
+    private static final int QUERY_COUNT = 1024;
+
+    @Param("10000")
+    private int familyCount;
+
+    private FontFamilyCatalog catalog;
+    private String[] hits;
+    private String[] misses;
+    private ListSearchIndex searchIndex;
+    private ListSearchIndex.Cursor cursor;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        final String[] names = SyntheticFontFamilies.generate(familyCount, 42L);
+        catalog = FontFamilyCatalog.of(names);
+        hits = new String[QUERY_COUNT];
+        misses = new String[QUERY_COUNT];
+        for (int i = 0; i < QUERY_COUNT; i++) {
+            // Case differs from the catalog, as it does for user input.
+            hits[i] = names[(i * 7919) % names.length].toLowerCase(Locale.ROOT);
+            misses[i] = hits[i] + " Missing";
+        }
+        searchIndex = ListSearchIndex.create(catalog.getFamilyNames());
+        cursor = searchIndex.newCursor();
+    }
+
+    private String nextHit() {
+        next = (next + 1) & (QUERY_COUNT - 1);
+        return hits[next];
+    }
+
+    @Benchmark
+    public int indexOfHit() {
+        return catalog.indexOf(nextHit());
+    }
+
+    @Benchmark
+    public int indexOfMiss() {
+        next = (next + 1) & (QUERY_COUNT - 1);
+        return catalog.indexOf(misses[next]);
+    }
+
+    /**
+     * Types a family name character by character, as the font chooser
+     * search does on every keystroke.
+     */
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int typeFamilyName() {
+        final String name = nextHit();
+        cursor.reset();
+        int index = -1;
+        for (int length = 1; length <= name.length(); length++) {
+            index = cursor.find(name.subSequence(0, length));
+        }
+        return index;
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public ListSearchIndex createSearchIndex() {
+        return ListSearchIndex.create(catalog.getFamilyNames());
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public FontFamilyCatalog createCatalog() {
+        final FontFamilyCatalog copy = FontFamilyCatalog.of(catalog.toArray());
+        copy.getNameIndex();
+        return copy;
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Java UI Extensions project.
+ * https://ivanp2015.github.io/javauiext
+ *
+ * Copyright (c) 2018, Ivan Pizhenko. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Ivan Pizhenko designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Ivan Pizhenko in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package io.github.ivanp2015.javauiext.benchmarks;
+
+import io.github.ivanp2015.javauiext.javax.swing.JFontChooser;
+import java.awt.Font;
+import java.awt.GraphicsEnvironment;
+import java.lang.reflect.InvocationTargetException;
+import java.util.concurrent.TimeUnit;
+import javax.swing.SwingUtilities;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Getting and setting the selected font of a font chooser.
+ *
+ * Chooser is modified on the event dispatch thread, so the measured time
+ * includes the hand-off to that thread and the deferred updates the
+ * chooser schedules there. Selected font is read directly, while
+ * the chooser is idle.
+ *
+ * @author Ivan Pizhenko
+ * @since 0.1.1
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+@State(Scope.Thread)
+public class FontChooserBenchmark {
+
+    private JFontChooser chooser;
+    private Font[] fonts;
+    private int next;
+    private final Runnable selectNextFont = new Runnable() {
+        @Override
+        public void run() {
+            next = (next + 1) & (fonts.length - 1);
+            chooser.setSelectedFont(fonts[next]);
+        }
+    };
+    private final Runnable construct = new Runnable() {
+        @Override
+        public void run() {
+            new JFontChooser(fonts[0]);
+        }
+    };
+
+    @Setup
+    public void setUp() throws InterruptedException, InvocationTargetException {
+        final String[] families = GraphicsEnvironment.getLocalGraphicsEnvironment()
+                .getAvailableFontFamilyNames();
+        final int[] styles = {Font.PLAIN, Font.BOLD, Font.ITALIC, Font.BOLD | Font.ITALIC};
+        final int[] sizes = {8, 10, 12, 14, 18, 24, 36, 72};
+        fonts = new Font[64];
+        for (int i = 0; i < fonts.length; i++) {
+            fonts[i] = new Font(families[(i * 31) % families.length], styles[i % styles.length],
+                    sizes[(i / styles.length) % sizes.length]);
+        }
+        SwingUtilities.invokeAndWait(new Runnable() {
+            @Override
+            public void run() {
+                chooser = new JFontChooser(fonts[0]);
+            }
+        });
+        // Lets the chooser finish updates scheduled during construction.
+        SwingUtilities.invokeAndWait(new Runnable() {
+            @Override
+            public void run() {
+            }
+        });
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public Font getSelectedFont() {
+        return chooser.getSelectedFont();
+    }
+
+    @Benchmark
+    public void setSelectedFont() throws InterruptedException, InvocationTargetException {
+        SwingUtilities.invokeAndWait(selectNextFont);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public void construct() throws InterruptedException, InvocationTargetException {
+        SwingUtilities.invokeAndWait(construct);
+    }
+}
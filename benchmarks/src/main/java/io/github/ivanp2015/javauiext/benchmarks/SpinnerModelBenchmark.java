@@ -0,0 +1,104 @@
+/*
+ * Java UI Extensions project.
+ * https://ivanp2015.github.io/javauiext
+ *
+ * Copyright (c) 2018, Ivan Pizhenko. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Ivan Pizhenko designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Ivan Pizhenko in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package io.github.ivanp2015.javauiext.benchmarks;
+
+import io.github.ivanp2015.javauiext.javax.swing.SpinnerCyclicListModel;
+import io.github.ivanp2015.javauiext.javax.swing.SpinnerCyclicNumberModel;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Stepping through the cyclic spinner models, including wrapping around.
+ *
+ * @author Ivan Pizhenko
+ * @since 0.1.1
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+@State(Scope.Thread)
+public class SpinnerModelBenchmark {
+
+    private SpinnerCyclicListModel listModel;
+    private SpinnerCyclicNumberModel intModel;
+    private SpinnerCyclicNumberModel doubleModel;
+
+    @Setup
+    public void setUp() {
+        final String[] values = new String[12];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = "Item " + i;
+        }
+        listModel = new SpinnerCyclicListModel(values);
+        intModel = new SpinnerCyclicNumberModel(0, 0, 59, 1);
+        doubleModel = new SpinnerCyclicNumberModel(0.0, 0.0, 1.0, 0.125);
+    }
+
+    @Benchmark
+    public Object listNext() {
+        final Object value = listModel.getNextValue();
+        listModel.setValue(value);
+        return value;
+    }
+
+    @Benchmark
+    public Object listPrevious() {
+        final Object value = listModel.getPreviousValue();
+        listModel.setValue(value);
+        return value;
+    }
+
+    @Benchmark
+    public Object intNext() {
+        final Object value = intModel.getNextValue();
+        intModel.setValue(value);
+        return value;
+    }
+
+    @Benchmark
+    public Object intPrevious() {
+        final Object value = intModel.getPreviousValue();
+        intModel.setValue(value);
+        return value;
+    }
+
+    @Benchmark
+    public Object doubleNext() {
+        final Object value = doubleModel.getNextValue();
+        doubleModel.setValue(value);
+        return value;
+    }
+}
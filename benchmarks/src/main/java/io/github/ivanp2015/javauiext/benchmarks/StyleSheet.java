@@ -0,0 +1,95 @@
+/*
+ * Java UI Extensions project.
+ * https://ivanp2015.github.io/javauiext
+ *
+ * Copyright (c) 2018, Ivan Pizhenko. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Ivan Pizhenko designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Ivan Pizhenko in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package io.github.ivanp2015.javauiext.benchmarks;
+
+import io.github.ivanp2015.javauiext.java.awt.helpers.jaxb.ColorXmlAdapter;
+import io.github.ivanp2015.javauiext.java.awt.helpers.jaxb.FontXmlAdapter;
+import java.awt.Color;
+import java.awt.Font;
+import java.util.ArrayList;
+import java.util.List;
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlRootElement;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+
+/**
+ * Sample document of named text styles, saved and loaded by
+ * the serializer benchmarks.
+ *
+ * @author Ivan Pizhenko
+ * @since 0.1.1
+ */
+@XmlRootElement(name = "styleSheet")
+@XmlAccessorType(XmlAccessType.FIELD)
+public class StyleSheet {
+
+    @XmlElement(name = "style")
+    private List<Style> styles = new ArrayList<>();
+
+    /**
+     * Creates style sheet with the specified number of styles.
+     *
+     * @param size number of styles.
+     * @return new style sheet.
+     */
+    static StyleSheet create(int size) {
+        final String[] families = SyntheticFontFamilies.generate(Math.max(size, 1), 7L);
+        final StyleSheet sheet = new StyleSheet();
+        for (int i = 0; i < size; i++) {
+            final Style style = new Style();
+            style.name = "style" + i;
+            style.font = new Font(families[i], i & 3, 8 + i % 64);
+            style.foreground = new Color(i * 0x010203 & 0xffffff);
+            style.background = new Color(~i * 0x030201 & 0xffffff);
+            sheet.styles.add(style);
+        }
+        return sheet;
+    }
+
+    int size() {
+        return styles.size();
+    }
+
+    /**
+     * Named text style.
+     */
+    @XmlAccessorType(XmlAccessType.FIELD)
+    public static class Style {
+        @XmlAttribute
+        private String name;
+
+        @XmlJavaTypeAdapter(FontXmlAdapter.class)
+        private Font font;
+
+        @XmlJavaTypeAdapter(ColorXmlAdapter.class)
+        private Color foreground;
+
+        @XmlJavaTypeAdapter(ColorXmlAdapter.class)
+        private Color background;
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Java UI Extensions project.
+ * https://ivanp2015.github.io/javauiext
+ *
+ * Copyright (c) 2018, Ivan Pizhenko. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Ivan Pizhenko designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Ivan Pizhenko in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package io.github.ivanp2015.javauiext.benchmarks;
+
+import java.util.LinkedHashSet;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Generates realistic-looking font family names, so that benchmarks
+ * don't depend on the fonts installed on the machine.
+ *
+ * @author Ivan Pizhenko
+ * @since 0.1.1
+ */
+final class SyntheticFontFamilies {
+
+    private static final String[] FOUNDRIES = {
+        "Adobe", "Bitstream", "DejaVu", "Droid", "Fira", "Free", "Gentium", "IBM Plex",
+        "Liberation", "Linux", "Noto", "Open", "PT", "Roboto", "Source", "Ubuntu",
+    };
+
+    private static final String[] NAMES = {
+        "Sans", "Serif", "Mono", "Code", "Text", "Display", "Caption", "Book",
+        "Grotesk", "Slab", "Script", "Gothic", "Mincho", "Naskh", "Kufi", "Hebrew",
+    };
+
+    private static final String[] VARIANTS = {
+        "", " Condensed", " Light", " Medium", " SemiBold", " Black", " UI", " Narrow",
+    };
+
+    private SyntheticFontFamilies() {}
+
+    /**
+     * Generates distinct font family names.
+     *
+     * @param count number of names.
+     * @param seed random seed.
+     * @return font family names.
+     */
+    static String[] generate(int count, long seed) {
+        final Random random = new Random(seed);
+        final Set<String> names = new LinkedHashSet<>();
+        while (names.size() < count) {
+            final StringBuilder sb = new StringBuilder();
+            sb.append(FOUNDRIES[random.nextInt(FOUNDRIES.length)]).append(' ');
+            sb.append(NAMES[random.nextInt(NAMES.length)]);
+            sb.append(VARIANTS[random.nextInt(VARIANTS.length)]);
+            if (random.nextInt(4) == 0) {
+                sb.append(' ').append(1 + random.nextInt(999));
+            }
+            names.add(sb.toString());
+        }
+        return names.toArray(new String[count]);
+    }
+}
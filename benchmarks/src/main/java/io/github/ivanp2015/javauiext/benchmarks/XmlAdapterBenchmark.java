@@ -0,0 +1,91 @@
+/*
+ * Java UI Extensions project.
+ * https://ivanp2015.github.io/javauiext
+ *
+ * Copyright (c) 2018, Ivan Pizhenko. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Ivan Pizhenko designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Ivan Pizhenko in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package io.github.ivanp2015.javauiext.benchmarks;
+
+import io.github.ivanp2015.javauiext.java.awt.helpers.jaxb.ColorXmlAdapter;
+import io.github.ivanp2015.javauiext.java.awt.helpers.jaxb.FontXmlAdapter;
+import java.awt.Color;
+import java.awt.Font;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Conversions done by the JAXB adapters for colors and fonts.
+ *
+ * @author Ivan Pizhenko
+ * @since 0.1.1
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+@State(Scope.Thread)
+public class XmlAdapterBenchmark {
+
+    private final ColorXmlAdapter colorAdapter = new ColorXmlAdapter();
+    private final FontXmlAdapter fontAdapter = new FontXmlAdapter();
+    private Color color;
+    private ColorXmlAdapter.RGBColorData colorData;
+    private Font font;
+    private FontXmlAdapter.FontData fontData;
+
+    @Setup
+    public void setUp() throws Exception {
+        color = new Color(0x12, 0x34, 0x56, 0x78);
+        colorData = colorAdapter.marshal(color);
+        font = new Font(Font.SERIF, Font.BOLD, 14);
+        fontData = fontAdapter.marshal(font);
+    }
+
+    @Benchmark
+    public ColorXmlAdapter.RGBColorData marshalColor() throws Exception {
+        return colorAdapter.marshal(color);
+    }
+
+    @Benchmark
+    public Color unmarshalColor() throws Exception {
+        return colorAdapter.unmarshal(colorData);
+    }
+
+    @Benchmark
+    public FontXmlAdapter.FontData marshalFont() throws Exception {
+        return fontAdapter.marshal(font);
+    }
+
+    @Benchmark
+    public Font unmarshalFont() throws Exception {
+        return fontAdapter.unmarshal(fontData);
+    }
+}
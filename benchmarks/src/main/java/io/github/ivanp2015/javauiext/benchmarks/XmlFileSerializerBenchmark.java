@@ -0,0 +1,95 @@
+/*
+ * Java UI Extensions project.
+ * https://ivanp2015.github.io/javauiext
+ *
+ * Copyright (c) 2018, Ivan Pizhenko. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Ivan Pizhenko designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Ivan Pizhenko in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package io.github.ivanp2015.javauiext.benchmarks;
+
+import io.github.ivanp2015.javauiext.util.JaxbXmlFileSerializer;
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import javax.xml.bind.JAXBException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Saving and loading XML files of various sizes.
+ *
+ * @author Ivan Pizhenko
+ * @since 0.1.1
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+@State(Scope.Thread)
+public class XmlFileSerializerBenchmark {
+
+    @Param({"1", "100", "10000"})
+    private int size;
+
+    private StyleSheet sheet;
+    private File loadFile;
+    private File saveFile;
+
+    @Setup
+    public void setUp() throws IOException, JAXBException {
+        sheet = StyleSheet.create(size);
+        loadFile = File.createTempFile("javauiext-load", ".xml");
+        saveFile = File.createTempFile("javauiext-save", ".xml");
+        JaxbXmlFileSerializer.saveToXmlFile(loadFile.getPath(), sheet);
+    }
+
+    @TearDown
+    public void tearDown() {
+        loadFile.delete();
+        saveFile.delete();
+    }
+
+    @Benchmark
+    public void save() throws IOException, JAXBException {
+        JaxbXmlFileSerializer.saveToXmlFile(saveFile.getPath(), sheet);
+    }
+
+    @Benchmark
+    public Object load() throws JAXBException {
+        return JaxbXmlFileSerializer.loadFromXmlFile(loadFile.getPath(), StyleSheet.class);
+    }
+
+    @Benchmark
+    public Object roundTrip() throws IOException, JAXBException {
+        JaxbXmlFileSerializer.saveToXmlFile(saveFile.getPath(), sheet);
+        return JaxbXmlFileSerializer.loadFromXmlFile(saveFile.getPath(), StyleSheet.class);
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * Java UI Extensions project.
+ * https://ivanp2015.github.io/javauiext
+ *
+ * Copyright (c) 2018, Ivan Pizhenko. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Ivan Pizhenko designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Ivan Pizhenko in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package io.github.ivanp2015.javauiext.java.awt.helpers;
+
+import java.awt.Font;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bounded cache of {@link Font} instances keyed by family, style and size.
+ *
+ * Fonts are derived with {@link Font#deriveFont(int, float)} from a cached
+ * base font of the same family, and the same instance is returned for
+ * the same family, style and size as long as it stays in the cache.
+ * Least recently used fonts are evicted first.
+ *
+ * This class is thread-safe.
+ *
+ * @author Ivan Pizhenko
+ * @since 0.1.1
+ */
+public final class FontCache {
+
+    private static final int DEFAULT_CAPACITY = 256;
+
+    private static final FontCache instance = new FontCache(DEFAULT_CAPACITY);
+
+    private final Map<FontKey, Font> fonts;
+    private final Map<String, Font> baseFonts;
+    private final FontKey lookupKey = new FontKey();
+
+    /**
+     * Constructs new object of class {@code FontCache}.
+     *
+     * @param capacity maximum number of fonts kept in the cache.
+     */
+    public FontCache(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive");
+        }
+        this.fonts = new LruMap<>(capacity);
+        this.baseFonts = new LruMap<>(capacity);
+    }
+
+    /**
+     * Returns the shared font cache.
+     *
+     * @return shared font cache.
+     */
+    public static FontCache getInstance() {
+        return instance;
+    }
+
+    /**
+     * Returns font with the specified family, style and size.
+     *
+     * @param family font family name, {@code null} means default font.
+     * @param style font style.
+     * @param size font point size.
+     * @return font.
+     */
+    public Font getFont(String family, int style, float size) {
+        if (family == null) {
+            family = "Default";
+        }
+        synchronized(this) {
+            lookupKey.set(family, style, size);
+            Font font = fonts.get(lookupKey);
+            if (font == null) {
+                Font baseFont = baseFonts.get(family);
+                if (baseFont == null) {
+                    baseFont = new Font(family, Font.PLAIN, 1);
+                    baseFonts.put(family, baseFont);
+                }
+                font = baseFont.deriveFont(style, size);
+                fonts.put(new FontKey(family, style, size), font);
+            }
+            return font;
+        }
+    }
+
+    /**
+     * Returns font with the specified family, style and size.
+     *
+     * @param family font family name, {@code null} means default font.
+     * @param style font style.
+     * @param size font size.
+     * @return font.
+     */
+    public Font getFont(String family, int style, int size) {
+        return getFont(family, style, (float) size);
+    }
+
+    /**
+     * Removes all fonts from the cache.
+     */
+    public synchronized void clear() {
+        fonts.clear();
+        baseFonts.clear();
+    }
+
+    private static final class LruMap<K, V> extends LinkedHashMap<K, V> {
+        private static final long serialVersionUID = 1L;
+
+        private final int capacity;
+
+        LruMap(int capacity) {
+            super(16, 0.75f, true);
+            this.capacity = capacity;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+            return size() > capacity;
+        }
+    }
+
+    private static final class FontKey {
+        private String family;
+        private int style;
+        private float size;
+
+        FontKey() {
+        }
+
+        FontKey(String family, int style, float size) {
+            set(family, style, size);
+        }
+
+        void set(String family, int style, float size) {
+            this.family = family;
+            this.style = style;
+            this.size = size;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof FontKey)) {
+                return false;
+            }
+            final FontKey other = (FontKey) obj;
+            return style == other.style && size == other.size && family.equals(other.family);
+        }
+
+        @Override
+        public int hashCode() {
+            return (family.hashCode() * 31 + style) * 31 + Float.floatToIntBits(size);
+        }
+    }
+}
@@ -0,0 +1,267 @@
+/*
+ * Java UI Extensions project.
+ * https://ivanp2015.github.io/javauiext
+ *
+ * Copyright (c) 2018, Ivan Pizhenko. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Ivan Pizhenko designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Ivan Pizhenko in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package io.github.ivanp2015.javauiext.java.awt.helpers;
+
+import io.github.ivanp2015.javauiext.util.TempFiles;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Persistent font family catalog file.
+ *
+ * The file holds font family names along with a per-family metadata word
+ * and is keyed by a fingerprint of the platform font directories,
+ * so it becomes stale as soon as fonts are installed or removed.
+ *
+ * File layout (big-endian):
+ * <pre>
+ *   int   magic
+ *   int   format version
+ *   long  fingerprint
+ *   int   family count
+ *   repeated family count times:
+ *     int    metadata
+ *     short  name length in bytes
+ *     byte[] name, UTF-8
+ * </pre>
+ *
+ * @author Ivan Pizhenko
+ * @since 0.1.1
+ */
+final class FontCatalogFile {
+
+    private static final int MAGIC = 0x4A554946; // "JUIF"
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 4 + 4 + 8 + 4;
+    private static final int MIN_ENTRY_SIZE = 4 + 2;
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private FontCatalogFile() {}
+
+    /**
+     * Reads catalog from the specified file.
+     *
+     * @param file catalog file path.
+     * @param fingerprint expected fingerprint.
+     * @return catalog or {@code null} if file is missing, malformed
+     *         or has different fingerprint.
+     */
+    static FontFamilyCatalog read(Path file, long fingerprint) {
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        try (final FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            // The file is read into a heap buffer rather than mapped, since
+            // a live mapping would prevent replacing the file on some platforms.
+            final long fileSize = channel.size();
+            if (fileSize > Integer.MAX_VALUE) {
+                return null;
+            }
+            final ByteBuffer buffer = ByteBuffer.allocate((int) fileSize);
+            while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                // keep reading
+            }
+            buffer.flip();
+            if (buffer.remaining() < HEADER_SIZE || buffer.getInt() != MAGIC
+                    || buffer.getInt() != VERSION || buffer.getLong() != fingerprint) {
+                return null;
+            }
+            final int count = buffer.getInt();
+            if (count < 0 || count > buffer.remaining() / MIN_ENTRY_SIZE) {
+                return null;
+            }
+            final String[] names = new String[count];
+            final int[] metadata = new int[count];
+            byte[] bytes = new byte[64];
+            for (int i = 0; i < count; i++) {
+                metadata[i] = buffer.getInt();
+                final int length = buffer.getShort() & 0xFFFF;
+                if (bytes.length < length) {
+                    bytes = new byte[Math.max(length, bytes.length * 2)];
+                }
+                buffer.get(bytes, 0, length);
+                names[i] = new String(bytes, 0, length, StandardCharsets.UTF_8);
+            }
+            return new FontFamilyCatalog(names, metadata, fingerprint);
+        } catch (IOException | RuntimeException ex) {
+            // Unreadable or truncated file is treated as a cache miss.
+            return null;
+        }
+    }
+
+    /**
+     * Writes catalog to the specified file. File is written to a temporary
+     * file first and then moved to the target location, so that readers
+     * never see partially written data.
+     *
+     * @param file catalog file path.
+     * @param catalog catalog to write.
+     * @throws IOException if I/O error happened.
+     */
+    static void write(Path file, FontFamilyCatalog catalog) throws IOException {
+        final int count = catalog.size();
+        final byte[][] names = new byte[count][];
+        int size = HEADER_SIZE;
+        for (int i = 0; i < count; i++) {
+            names[i] = catalog.getFamilyName(i).getBytes(StandardCharsets.UTF_8);
+            if (names[i].length > 0xFFFF) {
+                throw new IOException("Font family name is too long: " + catalog.getFamilyName(i));
+            }
+            size += 4 + 2 + names[i].length;
+        }
+
+        final ByteBuffer buffer = ByteBuffer.allocate(size);
+        buffer.putInt(MAGIC);
+        buffer.putInt(VERSION);
+        buffer.putLong(catalog.getFingerprint());
+        buffer.putInt(count);
+        for (int i = 0; i < count; i++) {
+            buffer.putInt(catalog.getMetadata(i));
+            buffer.putShort((short) names[i].length);
+            buffer.put(names[i]);
+        }
+        buffer.flip();
+
+        final Path tempFile = TempFiles.createSibling(file);
+        try {
+            try (final FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE)) {
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+            }
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    /**
+     * Computes fingerprint of the platform font directories. Fingerprint
+     * covers names, sizes and modification times of all files
+     * in the font directories and their subdirectories, as well as
+     * the Java runtime version, which affects the set of bundled fonts,
+     * and the default locale, which affects localized family names.
+     *
+     * @return fingerprint value.
+     */
+    static long computeFingerprint() {
+        long fingerprint = hash(FNV_OFFSET_BASIS, System.getProperty("java.version", ""));
+        fingerprint = hash(fingerprint, System.getProperty("os.name", ""));
+        fingerprint = hash(fingerprint, Locale.getDefault().toLanguageTag());
+        for (Path directory : getFontDirectories()) {
+            fingerprint = hash(fingerprint, directory.toString());
+            fingerprint = hash(fingerprint, hashDirectory(directory));
+        }
+        return fingerprint;
+    }
+
+    private static long hashDirectory(Path directory) {
+        if (!Files.isDirectory(directory)) {
+            return 0;
+        }
+        final long[] sum = new long[1];
+        try {
+            Files.walkFileTree(directory, new SimpleFileVisitor<Path>() {
+                @Override
+                public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                    // Entries are summed, so that directory listing order does not matter.
+                    long h = hash(FNV_OFFSET_BASIS, file.toString());
+                    h = hash(h, attrs.size());
+                    h = hash(h, attrs.lastModifiedTime().toMillis());
+                    sum[0] += h;
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFileFailed(Path file, IOException exc) {
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+        } catch (IOException ex) {
+            // Directory became unreadable, fingerprint whatever was visited.
+        }
+        return sum[0];
+    }
+
+    private static List<Path> getFontDirectories() {
+        final List<Path> directories = new ArrayList<>();
+        final String osName = System.getProperty("os.name", "").toLowerCase(Locale.ROOT);
+        final String userHome = System.getProperty("user.home", "");
+        if (osName.startsWith("windows")) {
+            addDirectory(directories, System.getenv("WINDIR"), "Fonts");
+            addDirectory(directories, System.getenv("LOCALAPPDATA"), "Microsoft", "Windows", "Fonts");
+        } else if (osName.startsWith("mac")) {
+            addDirectory(directories, "/System/Library/Fonts");
+            addDirectory(directories, "/Library/Fonts");
+            addDirectory(directories, "/Network/Library/Fonts");
+            addDirectory(directories, userHome, "Library", "Fonts");
+        } else {
+            addDirectory(directories, "/usr/share/fonts");
+            addDirectory(directories, "/usr/local/share/fonts");
+            addDirectory(directories, "/usr/X11R6/lib/X11/fonts");
+            addDirectory(directories, userHome, ".fonts");
+            addDirectory(directories, userHome, ".local", "share", "fonts");
+        }
+        addDirectory(directories, System.getProperty("java.home"), "lib", "fonts");
+        return directories;
+    }
+
+    private static void addDirectory(List<Path> directories, String first, String... more) {
+        if (first != null && !first.isEmpty()) {
+            directories.add(Paths.get(first, more));
+        }
+    }
+
+    private static long hash(long h, String s) {
+        for (int i = 0; i < s.length(); i++) {
+            h = (h ^ s.charAt(i)) * FNV_PRIME;
+        }
+        return h;
+    }
+
+    private static long hash(long h, long v) {
+        for (int i = 0; i < 8; i++) {
+            h = (h ^ (v & 0xFF)) * FNV_PRIME;
+            v >>>= 8;
+        }
+        return h;
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Java UI Extensions project.
+ * https://ivanp2015.github.io/javauiext
+ *
+ * Copyright (c) 2018, Ivan Pizhenko. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Ivan Pizhenko designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Ivan Pizhenko in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+package io.github.ivanp2015.javauiext.java.awt.helpers;
+
+/**
+ * Font family capabilities recorded in the {@link FontFamilyCatalog}
+ * metadata index.
+ *
+ * @author Ivan Pizhenko
+ * @since 0.1.1
+ * @see FontFamilyCatalog#hasCapabilities(int, java.util.Set)
+ */
+public enum FontFamilyCapability {
+    /**
+     * All characters have the same advance width.
+     */
+    MONOSPACED(null),
+
+    /**
+     * Family has a bold face, rather than bold style being synthesized.
+     */
+    BOLD(null),
+
+    /**
+     * Family has an italic face, rather than italic style being synthesized.
+     */
+    ITALIC(null),
+
+    /**
+     * Family can display basic Latin letters.
+     */
+    LATIN("AaZz"),
+
+    /**
+     * Family can display Greek letters.
+     */
+    GREEK("\u0391\u03B1\u03A9\u03C9"),
+
+    /**
+     * Family can display Cyrillic letters, including Ukrainian ones.
+     */
+    CYRILLIC("\u0410\u0430\u042F\u044F\u0404\u0454\u0407\u0457"),
+
+    /**
+     * Family can display common CJK ideographs and Japanese kana.
+     */
+    CJK("\u65E5\u672C\u8A9E\u4E2D\u6587\u3042\u30A2");
+
+    private final String sampleText;
+
+    FontFamilyCapability(String sampleText) {
+        this.sampleText = sampleText;
+    }
+
+    /**
+     * Returns text, which the family must be able to display,
+     * or {@code null} if capability is not about a script.
+     *
+     * @return sample text.
+     */
+    String getSampleText() {
+        return sampleText;
+    }
+
+    int mask() {
+        return 1 << ordinal();
+    }
+}
@@ -0,0 +1,366 @@
+/*
+ * Java UI Extensions project.
+ * https://ivanp2015.github.io/javauiext
+ *
+ * Copyright (c) 2018, Ivan Pizhenko. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Ivan Pizhenko designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Ivan Pizhenko in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package io.github.ivanp2015.javauiext.java.awt.helpers;
+
+import io.github.ivanp2015.javauiext.util.CaseInsensitiveStringIndex;
+import io.github.ivanp2015.javauiext.util.FlightRecorderEvents;
+import java.awt.GraphicsEnvironment;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Process-wide catalog of the available font families.
+ *
+ * Enumerating font families via
+ * {@link GraphicsEnvironment#getAvailableFontFamilyNames()} may take
+ * considerable time on systems with many fonts installed, so it is done
+ * once and the result is shared by all clients as an immutable snapshot.
+ * Call {@link #invalidate()} after installing or registering new fonts
+ * to have the catalog enumerated again on the next request.
+ *
+ * Optionally, the catalog can be persisted to a file specified by
+ * {@link #setCacheFile(Path)}. The file is keyed by a fingerprint of the
+ * platform font directories, so that subsequent application launches
+ * read the catalog from the file, and fall back to enumeration only
+ * when installed fonts have changed. Fonts registered by the application
+ * at run time via {@link GraphicsEnvironment#registerFont(java.awt.Font)}
+ * do not affect the fingerprint, so the application should call
+ * {@link #invalidate()} after registering them.
+ *
+ * Catalog also holds a metadata index of the
+ * {@link FontFamilyCapability capabilities} of each family. Building it
+ * requires probing every family, so it is built on demand, in parallel,
+ * and is stored in the persistent catalog file along with family names.
+ *
+ * This class is thread-safe.
+ *
+ * @author Ivan Pizhenko
+ * @since 0.1.1
+ */
+public final class FontFamilyCatalog {
+
+    private static final Object instanceLock = new Object();
+    private static volatile FontFamilyCatalog instance;
+    private static volatile Path cacheFile;
+    private static boolean bypassCacheFile;
+
+    private final String[] familyNames;
+    private final List<String> familyNameList;
+    private final int[] metadata;
+    private final long fingerprint;
+    private volatile CaseInsensitiveStringIndex nameIndex;
+    private volatile boolean metadataIndexed;
+
+    FontFamilyCatalog(String[] familyNames, int[] metadata, long fingerprint) {
+        this.familyNames = familyNames;
+        this.familyNameList = Collections.unmodifiableList(Arrays.asList(familyNames));
+        this.metadata = metadata;
+        this.fingerprint = fingerprint;
+        boolean indexed = true;
+        for (int word : metadata) {
+            if ((word & FontMetadataIndexer.INDEXED) == 0) {
+                indexed = false;
+                break;
+            }
+        }
+        this.metadataIndexed = indexed;
+    }
+
+    /**
+     * Returns the shared catalog snapshot, enumerating available font
+     * families on the first call or after invalidation.
+     *
+     * @return the current catalog snapshot.
+     */
+    public static FontFamilyCatalog getInstance() {
+        FontFamilyCatalog catalog = instance;
+        if (catalog == null) {
+            synchronized(instanceLock) {
+                catalog = instance;
+                if (catalog == null) {
+                    catalog = enumerate();
+                    instance = catalog;
+                }
+            }
+        }
+        return catalog;
+    }
+
+    /**
+     * Returns the shared catalog snapshot if it is already available,
+     * without enumerating font families.
+     *
+     * @return the current catalog snapshot, or {@code null} if none.
+     */
+    public static FontFamilyCatalog peekInstance() {
+        return instance;
+    }
+
+    /**
+     * Discards the shared catalog snapshot, so that the next call
+     * to {@link #getInstance()} enumerates font families again.
+     * Snapshots already handed out remain valid.
+     */
+    public static void invalidate() {
+        synchronized(instanceLock) {
+            instance = null;
+            bypassCacheFile = true;
+        }
+    }
+
+    /**
+     * Sets the persistent catalog file. The file is read on the next
+     * enumeration and rewritten whenever it is stale.
+     *
+     * @param file catalog file path, or {@code null} to disable
+     *             the persistent catalog.
+     */
+    public static void setCacheFile(Path file) {
+        cacheFile = file;
+    }
+
+    /**
+     * Returns the persistent catalog file.
+     *
+     * @return catalog file path, or {@code null} if persistent catalog
+     *         is disabled.
+     * @see #setCacheFile(Path)
+     */
+    public static Path getCacheFile() {
+        return cacheFile;
+    }
+
+    /**
+     * Creates a standalone catalog snapshot from the given family names.
+     * The shared instance is not affected.
+     *
+     * @param familyNames font family names.
+     * @return new catalog snapshot.
+     */
+    public static FontFamilyCatalog of(String... familyNames) {
+        return new FontFamilyCatalog(familyNames.clone(), new int[familyNames.length], 0L);
+    }
+
+    // Must be called with instanceLock held.
+    private static FontFamilyCatalog enumerate() {
+        final Object event = FlightRecorderEvents.beginFontCatalogEnumeration();
+        final Path file = cacheFile;
+        final boolean bypass = bypassCacheFile;
+        bypassCacheFile = false;
+        if (file == null) {
+            final FontFamilyCatalog catalog = enumerate(0L);
+            FlightRecorderEvents.endFontCatalogEnumeration(event, catalog.size(), false);
+            return catalog;
+        }
+
+        final long fingerprint = FontCatalogFile.computeFingerprint();
+        if (!bypass) {
+            final FontFamilyCatalog catalog = FontCatalogFile.read(file, fingerprint);
+            if (catalog != null) {
+                FlightRecorderEvents.endFontCatalogEnumeration(event, catalog.size(), true);
+                return catalog;
+            }
+        }
+        final FontFamilyCatalog catalog = enumerate(fingerprint);
+        try {
+            FontCatalogFile.write(file, catalog);
+        } catch (IOException ex) {
+            // Catalog file is just an optimization, ignore this exception.
+        }
+        FlightRecorderEvents.endFontCatalogEnumeration(event, catalog.size(), false);
+        return catalog;
+    }
+
+    private static FontFamilyCatalog enumerate(long fingerprint) {
+        final GraphicsEnvironment env = GraphicsEnvironment.getLocalGraphicsEnvironment();
+        final String[] names = env.getAvailableFontFamilyNames();
+        return new FontFamilyCatalog(names, new int[names.length], fingerprint);
+    }
+
+    /**
+     * Returns number of font families in this catalog.
+     *
+     * @return number of font families.
+     */
+    public int size() {
+        return familyNames.length;
+    }
+
+    /**
+     * Returns font family name at the specified index.
+     *
+     * @param index family index.
+     * @return font family name.
+     * @throws IndexOutOfBoundsException if index is out of range.
+     */
+    public String getFamilyName(int index) {
+        return familyNames[index];
+    }
+
+    /**
+     * Returns unmodifiable list of font family names.
+     *
+     * @return list of font family names.
+     */
+    public List<String> getFamilyNames() {
+        return familyNameList;
+    }
+
+    /**
+     * Returns a copy of the font family names.
+     *
+     * @return new array of font family names.
+     */
+    public String[] toArray() {
+        return familyNames.clone();
+    }
+
+    /**
+     * Returns fingerprint of the platform font directories this catalog
+     * corresponds to.
+     *
+     * @return fingerprint, or {@code 0} if the catalog was created
+     *         without persistent catalog file.
+     */
+    public long getFingerprint() {
+        return fingerprint;
+    }
+
+    /**
+     * Returns index of the font family with the specified name, ignoring case.
+     *
+     * @param name font family name.
+     * @return family index, or {@code -1} if there is no such family.
+     */
+    public int indexOf(CharSequence name) {
+        return getNameIndex().indexOf(name);
+    }
+
+    /**
+     * Returns case-insensitive index of the font family names.
+     * Index is built on the first call and shared afterwards.
+     *
+     * @return family name index.
+     */
+    public CaseInsensitiveStringIndex getNameIndex() {
+        CaseInsensitiveStringIndex index = nameIndex;
+        if (index == null) {
+            index = new CaseInsensitiveStringIndex(familyNames);
+            nameIndex = index;
+        }
+        return index;
+    }
+
+    /**
+     * Returns whether the metadata index is built.
+     *
+     * @return {@code true} if capabilities of all families are known.
+     * @see #indexMetadata()
+     */
+    public boolean isMetadataIndexed() {
+        return metadataIndexed;
+    }
+
+    /**
+     * Builds the metadata index, unless it is already built. Families are
+     * probed in parallel by the common fork-join pool, which may take
+     * considerable time, so this method should not be called on the event
+     * dispatch thread. If this catalog is the shared one and the persistent
+     * catalog file is enabled, the file is rewritten with the index.
+     */
+    public void indexMetadata() {
+        if (metadataIndexed) {
+            return;
+        }
+        synchronized(metadata) {
+            if (metadataIndexed) {
+                return;
+            }
+            ForkJoinPool.commonPool().invoke(
+                    new FontMetadataIndexer(familyNames, metadata, 0, familyNames.length));
+            metadataIndexed = true;
+        }
+        final Path file = cacheFile;
+        if (file != null && fingerprint != 0L && this == instance) {
+            try {
+                FontCatalogFile.write(file, this);
+            } catch (IOException ex) {
+                // Catalog file is just an optimization, ignore this exception.
+            }
+        }
+    }
+
+    /**
+     * Returns whether the font family at the specified index has all
+     * of the specified capabilities. Builds the metadata index if needed.
+     *
+     * @param index family index.
+     * @param capabilities required capabilities.
+     * @return {@code true} if family has all capabilities.
+     * @throws IndexOutOfBoundsException if index is out of range.
+     * @see #indexMetadata()
+     */
+    public boolean hasCapabilities(int index, Set<FontFamilyCapability> capabilities) {
+        indexMetadata();
+        final int word = metadata[index];
+        for (FontFamilyCapability capability : capabilities) {
+            if ((word & capability.mask()) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns capabilities of the font family at the specified index.
+     * Builds the metadata index if needed.
+     *
+     * @param index family index.
+     * @return new set of capabilities.
+     * @throws IndexOutOfBoundsException if index is out of range.
+     * @see #indexMetadata()
+     */
+    public Set<FontFamilyCapability> getCapabilities(int index) {
+        indexMetadata();
+        final int word = metadata[index];
+        final Set<FontFamilyCapability> capabilities = EnumSet.noneOf(FontFamilyCapability.class);
+        for (FontFamilyCapability capability : FontFamilyCapability.values()) {
+            if ((word & capability.mask()) != 0) {
+                capabilities.add(capability);
+            }
+        }
+        return capabilities;
+    }
+
+    int getMetadata(int index) {
+        return metadata[index];
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Java UI Extensions project.
+ * https://ivanp2015.github.io/javauiext
+ *
+ * Copyright (c) 2018, Ivan Pizhenko. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Ivan Pizhenko designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Ivan Pizhenko in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+package io.github.ivanp2015.javauiext.java.awt.helpers;
+
+import java.awt.Font;
+import java.awt.font.FontRenderContext;
+import java.awt.font.GlyphVector;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Probes font families for their {@link FontFamilyCapability capabilities}.
+ * Families are split into ranges, which are probed in parallel
+ * by a fork-join pool.
+ *
+ * @author Ivan Pizhenko
+ * @since 0.1.1
+ */
+final class FontMetadataIndexer extends RecursiveAction {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Marks metadata words, which hold probed capabilities.
+     */
+    static final int INDEXED = 0x80000000;
+
+    private static final int THRESHOLD = 8;
+    private static final String MONOSPACE_PROBE_TEXT = "il.WMm";
+    private static final FontRenderContext FRC = new FontRenderContext(null, false, false);
+
+    private final String[] names;
+    private final int[] metadata;
+    private final int from;
+    private final int to;
+
+    FontMetadataIndexer(String[] names, int[] metadata, int from, int to) {
+        this.names = names;
+        this.metadata = metadata;
+        this.from = from;
+        this.to = to;
+    }
+
+    @Override
+    protected void compute() {
+        if (to - from <= THRESHOLD) {
+            for (int i = from; i < to; i++) {
+                metadata[i] = probe(names[i]);
+            }
+        } else {
+            final int mid = (from + to) >>> 1;
+            invokeAll(new FontMetadataIndexer(names, metadata, from, mid),
+                    new FontMetadataIndexer(names, metadata, mid, to));
+        }
+    }
+
+    /**
+     * Probes capabilities of the specified font family.
+     *
+     * @param family font family name.
+     * @return metadata word with {@link #INDEXED} bit set.
+     */
+    static int probe(String family) {
+        int bits = INDEXED;
+        try {
+            final Font plain = new Font(family, Font.PLAIN, 12);
+            if (isMonospaced(plain)) {
+                bits |= FontFamilyCapability.MONOSPACED.mask();
+            }
+            // Synthesized styles map to the same face as the plain style.
+            final String plainName = plain.getFontName();
+            if (!new Font(family, Font.BOLD, 12).getFontName().equals(plainName)) {
+                bits |= FontFamilyCapability.BOLD.mask();
+            }
+            if (!new Font(family, Font.ITALIC, 12).getFontName().equals(plainName)) {
+                bits |= FontFamilyCapability.ITALIC.mask();
+            }
+            for (FontFamilyCapability capability : FontFamilyCapability.values()) {
+                final String sample = capability.getSampleText();
+                if (sample != null && plain.canDisplayUpTo(sample) < 0) {
+                    bits |= capability.mask();
+                }
+            }
+        } catch (RuntimeException ex) {
+            // Broken font, treat it as having no capabilities.
+        }
+        return bits;
+    }
+
+    private static boolean isMonospaced(Font font) {
+        final GlyphVector glyphs = font.createGlyphVector(FRC, MONOSPACE_PROBE_TEXT);
+        final float advance = glyphs.getGlyphMetrics(0).getAdvance();
+        for (int i = 1; i < glyphs.getNumGlyphs(); i++) {
+            if (Math.abs(glyphs.getGlyphMetrics(i).getAdvance() - advance) > 0.01f) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
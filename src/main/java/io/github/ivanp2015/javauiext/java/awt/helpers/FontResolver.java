@@ -0,0 +1,241 @@
+/*
+ * Java UI Extensions project.
+ * https://ivanp2015.github.io/javauiext
+ *
+ * Copyright (c) 2018, Ivan Pizhenko. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Ivan Pizhenko designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Ivan Pizhenko in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package io.github.ivanp2015.javauiext.java.awt.helpers;
+
+import io.github.ivanp2015.javauiext.util.CaseInsensitiveStringIndex;
+import java.awt.Font;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Maps requested font families to installed ones.
+ *
+ * A requested family is looked up, ignoring case, in the shared
+ * {@link FontFamilyCatalog}. If it is not installed, families of its
+ * fallback chain are tried in order, each one with its own fallback chain,
+ * and then families of the default fallback chain. If no family is found,
+ * the requested family is used as is, so {@link Font} falls back to
+ * the {@link Font#DIALOG} family, same as it would without the resolver.
+ * Results are cached until the catalog is invalidated or fallback chains
+ * change.
+ *
+ * This class does not depend on any UI and works in headless mode.
+ * It is thread-safe.
+ *
+ * @author Ivan Pizhenko
+ * @since 0.1.1
+ */
+public final class FontResolver {
+
+    private static volatile FontResolver defaultResolver = new FontResolver();
+
+    // Unresolved families are cached as empty string.
+    private static final String UNRESOLVED = "";
+
+    private final ConcurrentMap<String, String[]> fallbackChains = new ConcurrentHashMap<>();
+    private volatile String[] defaultFallbackChain = new String[0];
+    private volatile ResolutionCache cache;
+    // Incremented after each change of fallback chains, so that results
+    // computed from the earlier chains are not cached.
+    private final AtomicInteger generation = new AtomicInteger();
+
+    /**
+     * Constructs new object of class {@code FontResolver}
+     * without fallback chains.
+     */
+    public FontResolver() {
+    }
+
+    /**
+     * Returns the default font resolver.
+     *
+     * @return default font resolver.
+     */
+    public static FontResolver getDefault() {
+        return defaultResolver;
+    }
+
+    /**
+     * Sets the default font resolver.
+     *
+     * @param resolver new default font resolver.
+     */
+    public static void setDefault(FontResolver resolver) {
+        if (resolver == null) {
+            throw new IllegalArgumentException("resolver must not be null");
+        }
+        defaultResolver = resolver;
+    }
+
+    /**
+     * Sets fallback chain for the specified family, ignoring case.
+     *
+     * @param family font family name.
+     * @param fallbacks families to try in order, when the family is not
+     *                  installed, empty to remove the chain.
+     */
+    public void setFallbackChain(String family, String... fallbacks) {
+        final String key = fold(family);
+        if (fallbacks.length == 0) {
+            fallbackChains.remove(key);
+        } else {
+            fallbackChains.put(key, fallbacks.clone());
+        }
+        generation.incrementAndGet();
+    }
+
+    /**
+     * Returns fallback chain of the specified family.
+     *
+     * @param family font family name.
+     * @return new array of fallback families, empty if there's no chain.
+     */
+    public String[] getFallbackChain(String family) {
+        final String[] chain = fallbackChains.get(fold(family));
+        return chain != null ? chain.clone() : new String[0];
+    }
+
+    /**
+     * Sets families to try in order, when neither the requested family
+     * nor its fallbacks are installed.
+     *
+     * @param fallbacks fallback families.
+     */
+    public void setDefaultFallbackChain(String... fallbacks) {
+        defaultFallbackChain = fallbacks.clone();
+        generation.incrementAndGet();
+    }
+
+    /**
+     * Returns families to try, when neither the requested family
+     * nor its fallbacks are installed.
+     *
+     * @return new array of fallback families.
+     */
+    public String[] getDefaultFallbackChain() {
+        return defaultFallbackChain.clone();
+    }
+
+    /**
+     * Returns installed family for the requested family.
+     *
+     * @param family requested font family name.
+     * @return name of the installed family, as it appears in the catalog,
+     *         or {@code null} if neither the family nor its fallbacks
+     *         are installed.
+     */
+    public String resolveFamily(String family) {
+        if (family == null) {
+            return null;
+        }
+        final FontFamilyCatalog catalog = FontFamilyCatalog.getInstance();
+        // Read before the chains, so that a concurrent change makes the cache stale.
+        final int currentGeneration = generation.get();
+        ResolutionCache c = cache;
+        if (c == null || c.catalog != catalog || c.generation != currentGeneration) {
+            c = new ResolutionCache(catalog, currentGeneration);
+            cache = c;
+        }
+        String resolved = c.families.get(family);
+        if (resolved == null) {
+            final Set<String> visited = new HashSet<>();
+            resolved = lookup(catalog, family, visited);
+            if (resolved == null) {
+                for (String fallback : defaultFallbackChain) {
+                    resolved = lookup(catalog, fallback, visited);
+                    if (resolved != null) {
+                        break;
+                    }
+                }
+            }
+            if (resolved == null) {
+                resolved = UNRESOLVED;
+            }
+            c.families.putIfAbsent(family, resolved);
+        }
+        return resolved != UNRESOLVED ? resolved : null;
+    }
+
+    /**
+     * Returns font of the installed family for the requested family.
+     * Fonts are obtained from the shared {@link FontCache}.
+     *
+     * @param family requested font family name.
+     * @param style font style.
+     * @param size font size.
+     * @return font.
+     */
+    public Font resolveFont(String family, int style, int size) {
+        String resolved = null;
+        // Without fallbacks, the result is the same as for the requested family.
+        if (!fallbackChains.isEmpty() || defaultFallbackChain.length > 0) {
+            resolved = resolveFamily(family);
+        }
+        return FontCache.getInstance().getFont(resolved != null ? resolved : family, style, size);
+    }
+
+    private String lookup(FontFamilyCatalog catalog, String family, Set<String> visited) {
+        final String key = fold(family);
+        if (!visited.add(key)) {
+            return null;
+        }
+        final int index = catalog.indexOf(family);
+        if (index >= 0) {
+            return catalog.getFamilyName(index);
+        }
+        final String[] chain = fallbackChains.get(key);
+        if (chain != null) {
+            for (String fallback : chain) {
+                final String resolved = lookup(catalog, fallback, visited);
+                if (resolved != null) {
+                    return resolved;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static String fold(String s) {
+        final char[] chars = new char[s.length()];
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = CaseInsensitiveStringIndex.fold(s.charAt(i));
+        }
+        return new String(chars);
+    }
+
+    private static final class ResolutionCache {
+        final FontFamilyCatalog catalog;
+        final int generation;
+        final ConcurrentMap<String, String> families = new ConcurrentHashMap<>();
+
+        ResolutionCache(FontFamilyCatalog catalog, int generation) {
+            this.catalog = catalog;
+            this.generation = generation;
+        }
+    }
+}
@@ -24,6 +24,7 @@
 
 package io.github.ivanp2015.javauiext.java.awt.helpers.jaxb;
 
+import io.github.ivanp2015.javauiext.java.awt.helpers.FontResolver;
 import java.awt.Font;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -106,8 +107,10 @@ public class FontXmlAdapter extends XmlAdapter<FontXmlAdapter.FontData, Font> {
 
         /**
          * Converts this object to {@link java.awt.Font} object.
+         * Font family is mapped to an installed one by the default
+         * {@link FontResolver}.
          *
-         * @return New font object.
+         * @return Font object.
          */
         public Font toFont() {
             int style = 0;
@@ -117,7 +120,7 @@ public class FontXmlAdapter extends XmlAdapter<FontXmlAdapter.FontData, Font> {
             if (italic) {
                 style |= Font.ITALIC;
             }
-            return new Font(family, style, size);
+            return FontResolver.getDefault().resolveFont(family, style, size);
         }
     }
 }
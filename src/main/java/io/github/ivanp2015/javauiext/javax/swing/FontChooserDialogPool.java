@@ -0,0 +1,184 @@
+/*
+ * Java UI Extensions project.
+ * https://ivanp2015.github.io/javauiext
+ *
+ * Copyright (c) 2018, Ivan Pizhenko. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Ivan Pizhenko designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Ivan Pizhenko in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package io.github.ivanp2015.javauiext.javax.swing;
+
+import io.github.ivanp2015.javauiext.util.FlightRecorderEvents;
+import java.awt.Component;
+import java.awt.Font;
+import java.awt.Window;
+import java.awt.event.ComponentAdapter;
+import java.awt.event.ComponentEvent;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import javax.swing.JDialog;
+
+/**
+ * Pool of hidden font chooser dialogs, which are reused by
+ * {@link JFontChooser#showDialog(Component, String, Font, String[], boolean)}
+ * when dialog reuse is enabled.
+ *
+ * Up to {@link #MAX_IDLE_DIALOGS_PER_OWNER} dialogs are kept for each owner
+ * window. Dialogs are disposed when their owner window is closed.
+ * All methods must be called on the event dispatch thread.
+ *
+ * @author Ivan Pizhenko
+ * @since 0.1.1
+ */
+final class FontChooserDialogPool {
+
+    static final int MAX_IDLE_DIALOGS_PER_OWNER = 2;
+
+    private static final Map<Window, ArrayDeque<PooledDialog>> idleDialogs = new HashMap<>();
+    private static final Map<Window, OwnerCloseHandler> ownerCloseHandlers = new HashMap<>();
+
+    private FontChooserDialogPool() {}
+
+    static Font showDialog(Component component, String title, Font initialFont,
+            String[] fontSizeStrings, boolean loadFontFamiliesAsynchronously) {
+        final Object event = FlightRecorderEvents.beginFontChooserDialogOpen();
+        final Window owner = JOptionPaneLocal.getWindowForComponent1(component);
+        PooledDialog pooled = acquire(owner, fontSizeStrings);
+        final boolean reused = pooled != null;
+        if (pooled == null) {
+            final JFontChooser pane = new JFontChooser(initialFont, fontSizeStrings,
+                    loadFontFamiliesAsynchronously);
+            final FontTracker tracker = new FontTracker(pane);
+            final JDialog dialog = JFontChooser.newDialog(component, title, true, pane,
+                    tracker, null);
+            pooled = new PooledDialog(owner, dialog, pane, tracker, fontSizeStrings);
+            dialog.addComponentListener(new ReleaseOnClose(pooled));
+        } else {
+            pooled.tracker.font = null;
+            pooled.dialog.setTitle(title);
+            pooled.dialog.getAccessibleContext().setAccessibleDescription(title);
+            pooled.pane.setSelectedFont(initialFont);
+            pooled.dialog.setLocationRelativeTo(component);
+        }
+        FlightRecorderEvents.endFontChooserDialogOpen(event, "showDialog", reused);
+        pooled.dialog.setVisible(true); // blocks until user brings dialog down...
+        return pooled.tracker.getFont();
+    }
+
+    /**
+     * Disposes all idle dialogs.
+     */
+    static void clear() {
+        for (ArrayDeque<PooledDialog> dialogs : idleDialogs.values()) {
+            for (PooledDialog pooled : dialogs) {
+                pooled.dialog.dispose();
+            }
+        }
+        idleDialogs.clear();
+        for (Map.Entry<Window, OwnerCloseHandler> entry : ownerCloseHandlers.entrySet()) {
+            entry.getKey().removeWindowListener(entry.getValue());
+        }
+        ownerCloseHandlers.clear();
+    }
+
+    private static PooledDialog acquire(Window owner, String[] fontSizeStrings) {
+        final ArrayDeque<PooledDialog> dialogs = idleDialogs.get(owner);
+        if (dialogs != null) {
+            for (Iterator<PooledDialog> it = dialogs.iterator(); it.hasNext(); ) {
+                final PooledDialog pooled = it.next();
+                if (Arrays.equals(pooled.fontSizeStrings, fontSizeStrings)) {
+                    it.remove();
+                    return pooled;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static void release(PooledDialog pooled) {
+        final Window owner = pooled.owner;
+        if (JFontChooser.isDialogReuseEnabled() && owner.isDisplayable()) {
+            ArrayDeque<PooledDialog> dialogs = idleDialogs.get(owner);
+            if (dialogs == null) {
+                dialogs = new ArrayDeque<>(MAX_IDLE_DIALOGS_PER_OWNER);
+                idleDialogs.put(owner, dialogs);
+                if (!ownerCloseHandlers.containsKey(owner)) {
+                    final OwnerCloseHandler handler = new OwnerCloseHandler();
+                    ownerCloseHandlers.put(owner, handler);
+                    owner.addWindowListener(handler);
+                }
+            }
+            if (dialogs.size() < MAX_IDLE_DIALOGS_PER_OWNER) {
+                dialogs.push(pooled);
+                return;
+            }
+        }
+        pooled.dialog.dispose();
+    }
+
+    private static final class PooledDialog {
+        final Window owner;
+        final JDialog dialog;
+        final JFontChooser pane;
+        final FontTracker tracker;
+        final String[] fontSizeStrings;
+
+        PooledDialog(Window owner, JDialog dialog, JFontChooser pane, FontTracker tracker,
+                String[] fontSizeStrings) {
+            this.owner = owner;
+            this.dialog = dialog;
+            this.pane = pane;
+            this.tracker = tracker;
+            this.fontSizeStrings = fontSizeStrings != null ? fontSizeStrings.clone() : null;
+        }
+    }
+
+    private static final class ReleaseOnClose extends ComponentAdapter {
+        private final PooledDialog pooled;
+
+        ReleaseOnClose(PooledDialog pooled) {
+            this.pooled = pooled;
+        }
+
+        @Override
+        public void componentHidden(ComponentEvent e) {
+            release(pooled);
+        }
+    }
+
+    private static final class OwnerCloseHandler extends WindowAdapter {
+        @Override
+        public void windowClosed(WindowEvent e) {
+            final Window owner = e.getWindow();
+            owner.removeWindowListener(this);
+            ownerCloseHandlers.remove(owner);
+            final ArrayDeque<PooledDialog> dialogs = idleDialogs.remove(owner);
+            if (dialogs != null) {
+                for (PooledDialog pooled : dialogs) {
+                    pooled.dialog.dispose();
+                }
+            }
+        }
+    }
+}
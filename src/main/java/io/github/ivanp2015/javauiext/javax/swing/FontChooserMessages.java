@@ -0,0 +1,148 @@
+/*
+ * Java UI Extensions project.
+ * https://ivanp2015.github.io/javauiext
+ *
+ * Copyright (c) 2018, Ivan Pizhenko. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Ivan Pizhenko designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Ivan Pizhenko in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package io.github.ivanp2015.javauiext.javax.swing;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.MissingResourceException;
+import java.util.ResourceBundle;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import javax.swing.UIManager;
+
+/**
+ * Immutable table of the font chooser messages for a locale.
+ *
+ * Table is built once per locale from the {@code JFontChooser*.properties}
+ * resource bundles, including messages inherited from the parent bundles.
+ * Unlike {@link javax.swing.UIManager} lookups, the bundle for the default
+ * locale is not used as a fallback, so that each component shows messages
+ * for its own locale, and lookups don't involve any global locks.
+ *
+ * This class is thread-safe.
+ *
+ * @author Ivan Pizhenko
+ * @since 0.1.1
+ */
+final class FontChooserMessages {
+
+    private static final String BUNDLE_NAME = JFontChooser.class.getName();
+
+    private static final ResourceBundle.Control CONTROL =
+            ResourceBundle.Control.getNoFallbackControl(ResourceBundle.Control.FORMAT_DEFAULT);
+
+    private static final ConcurrentMap<Locale, FontChooserMessages> tables =
+            new ConcurrentHashMap<>();
+
+    private final Locale locale;
+    private final Map<String, String> messages;
+    private final boolean localized;
+
+    private FontChooserMessages(Locale locale, Map<String, String> messages, boolean localized) {
+        this.locale = locale;
+        this.messages = messages;
+        this.localized = localized;
+    }
+
+    /**
+     * Returns message table for the specified locale.
+     *
+     * @param locale locale.
+     * @return message table.
+     */
+    static FontChooserMessages forLocale(Locale locale) {
+        FontChooserMessages table = tables.get(locale);
+        if (table == null) {
+            table = load(locale);
+            final FontChooserMessages existing = tables.putIfAbsent(locale, table);
+            if (existing != null) {
+                table = existing;
+            }
+        }
+        return table;
+    }
+
+    /**
+     * Returns locale of this table.
+     *
+     * @return locale.
+     */
+    Locale getLocale() {
+        return locale;
+    }
+
+    /**
+     * Returns message for the specified key.
+     *
+     * @param key message key.
+     * @return message, or {@code null} if there's no such message.
+     */
+    String get(String key) {
+        return messages.get(key);
+    }
+
+    /**
+     * Returns message for the specified key, if there is a bundle for
+     * the locale of this table, or the {@link javax.swing.UIManager} string
+     * for the specified key otherwise, so that the Look and Feel translations
+     * are used for the locales this library has no messages for.
+     *
+     * @param key message key.
+     * @param uiManagerKey {@code UIManager} key of a similar string.
+     * @return message, or {@code null} if there's no such message.
+     */
+    String get(String key, String uiManagerKey) {
+        final String message = messages.get(key);
+        if (message == null || !localized) {
+            final String uiString = UIManager.getString(uiManagerKey, locale);
+            if (uiString != null) {
+                return uiString;
+            }
+        }
+        return message;
+    }
+
+    private static FontChooserMessages load(Locale locale) {
+        final Map<String, String> messages = new HashMap<>();
+        boolean localized = false;
+        try {
+            final ResourceBundle bundle = ResourceBundle.getBundle(BUNDLE_NAME, locale,
+                    FontChooserMessages.class.getClassLoader(), CONTROL);
+            // Messages of the base bundle are not translations.
+            localized = !bundle.getLocale().equals(Locale.ROOT);
+            for (String key : bundle.keySet()) {
+                final Object value = bundle.getObject(key);
+                if (value instanceof String) {
+                    messages.put(key, (String) value);
+                }
+            }
+        } catch (MissingResourceException ex) {
+            // No messages, all lookups will return null.
+        }
+        return new FontChooserMessages(locale, Collections.unmodifiableMap(messages), localized);
+    }
+}
@@ -0,0 +1,248 @@
+/*
+ * Java UI Extensions project.
+ * https://ivanp2015.github.io/javauiext
+ *
+ * Copyright (c) 2018, Ivan Pizhenko. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Ivan Pizhenko designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Ivan Pizhenko in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package io.github.ivanp2015.javauiext.javax.swing;
+
+import io.github.ivanp2015.javauiext.java.awt.helpers.FontFamilyCapability;
+import io.github.ivanp2015.javauiext.java.awt.helpers.FontFamilyCatalog;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import javax.swing.AbstractListModel;
+
+/**
+ * Font family list model, which shows only families matching a filter text.
+ *
+ * Results for every prefix of the current filter text are kept, so that
+ * typing a character filters the previous result rather than all families,
+ * and erasing a character reuses the earlier result. Until a filter text
+ * is set, the model shows all families of the underlying shared model,
+ * which have the required capabilities, if any.
+ *
+ * @author Ivan Pizhenko
+ * @since 0.1.1
+ */
+final class FontFamilyFilterModel extends AbstractListModel<String> {
+    private static final long serialVersionUID = 1L;
+
+    private final SharedListModel families;
+    private final JFontChooser.FontFamilyFilterMode mode;
+    // Stack of results, each one for a prefix of the next one's filter text.
+    private final List<FilterResult> results = new ArrayList<>();
+
+    FontFamilyFilterModel(SharedListModel families, JFontChooser.FontFamilyFilterMode mode) {
+        this(families, mode, null, null);
+    }
+
+    /**
+     * Constructs new object of class {@code FontFamilyFilterModel}.
+     *
+     * @param families all font families.
+     * @param mode filter mode.
+     * @param catalog catalog with the metadata index.
+     * @param capabilities capabilities each shown family must have,
+     *                     {@code null} or empty for no restriction.
+     */
+    FontFamilyFilterModel(SharedListModel families, JFontChooser.FontFamilyFilterMode mode,
+            FontFamilyCatalog catalog, Set<FontFamilyCapability> capabilities) {
+        this.families = families;
+        this.mode = mode;
+        if (catalog == null || capabilities == null || capabilities.isEmpty()) {
+            // Matches of the empty filter text are all families, in order.
+            results.add(new FilterResult("", null, families.getSize(), -1));
+        } else {
+            final int size = families.getSize();
+            final int[] matches = new int[size];
+            int count = 0;
+            for (int i = 0; i < size; i++) {
+                final int catalogIndex = catalog.indexOf(families.getElementAt(i));
+                if (catalogIndex >= 0 && catalog.hasCapabilities(catalogIndex, capabilities)) {
+                    matches[count++] = i;
+                }
+            }
+            results.add(new FilterResult("", matches, count, -1));
+        }
+    }
+
+    @Override
+    public int getSize() {
+        return current().count;
+    }
+
+    @Override
+    public String getElementAt(int index) {
+        return families.getElementAt(getFamilyIndex(index));
+    }
+
+    /**
+     * Returns the index of the specified family in the unfiltered family list.
+     *
+     * @param index list index.
+     * @return family index.
+     */
+    int getFamilyIndex(int index) {
+        final FilterResult result = current();
+        if (index < 0 || index >= result.count) {
+            throw new ArrayIndexOutOfBoundsException(index);
+        }
+        return result.matches != null ? result.matches[index] : index;
+    }
+
+    /**
+     * Returns the list index of the specified family.
+     *
+     * @param familyIndex index in the unfiltered family list.
+     * @return list index, or {@code -1} if the family is filtered out.
+     */
+    int indexOfFamilyIndex(int familyIndex) {
+        final FilterResult result = current();
+        if (result.matches == null) {
+            return familyIndex >= 0 && familyIndex < result.count ? familyIndex : -1;
+        }
+        final int index = Arrays.binarySearch(result.matches, 0, result.count, familyIndex);
+        return index >= 0 ? index : -1;
+    }
+
+    /**
+     * Returns the family name by its index in the unfiltered family list.
+     *
+     * @param familyIndex family index.
+     * @return family name.
+     */
+    String getFamilyName(int familyIndex) {
+        return families.getElementAt(familyIndex);
+    }
+
+    /**
+     * Returns index of the family, ignoring case, in the unfiltered list.
+     *
+     * @param name family name.
+     * @return family index, or {@code -1} if there is no such family.
+     */
+    int findFamilyIndex(String name) {
+        return families.indexOf(name);
+    }
+
+    /**
+     * Applies filter text.
+     *
+     * @param text filter text.
+     * @return list index of the family equal to the filter text, ignoring
+     *         case, or {@code -1} if there's no such family.
+     */
+    int setFilterText(CharSequence text) {
+        final String query = ListSearchIndex.foldCase(text);
+        final int oldSize = getSize();
+        FilterResult base = current();
+        while (!query.startsWith(base.query)) {
+            results.remove(results.size() - 1);
+            base = current();
+        }
+        if (!base.query.equals(query)) {
+            results.add(filter(base, query));
+        }
+        // Rows past the common size are reported as removed or added,
+        // so that the list view and its selection model follow the size.
+        final int newSize = getSize();
+        if (newSize < oldSize) {
+            fireIntervalRemoved(this, newSize, oldSize - 1);
+        } else if (newSize > oldSize) {
+            fireIntervalAdded(this, oldSize, newSize - 1);
+        }
+        final int commonSize = Math.min(oldSize, newSize);
+        if (commonSize > 0) {
+            fireContentsChanged(this, 0, commonSize - 1);
+        }
+        return current().exactMatch;
+    }
+
+    /**
+     * Removes the filter.
+     */
+    void clearFilter() {
+        setFilterText("");
+    }
+
+    private FilterResult current() {
+        return results.get(results.size() - 1);
+    }
+
+    private FilterResult filter(FilterResult base, String query) {
+        final String[] folded = families.getFoldedElements();
+        final String[] tokens = mode == JFontChooser.FontFamilyFilterMode.TOKENS
+                ? query.trim().split("\\s+") : null;
+        final int[] matches = new int[base.count];
+        int count = 0;
+        int exactMatch = -1;
+        for (int i = 0; i < base.count; i++) {
+            final int familyIndex = base.matches != null ? base.matches[i] : i;
+            final String name = folded[familyIndex];
+            if (tokens != null ? matchesTokens(name, tokens) : name.contains(query)) {
+                if (exactMatch < 0 && name.equals(query)) {
+                    exactMatch = count;
+                }
+                matches[count++] = familyIndex;
+            }
+        }
+        return new FilterResult(query, matches, count, exactMatch);
+    }
+
+    // Each token must start a word of the name.
+    private static boolean matchesTokens(String name, String[] tokens) {
+        for (String token : tokens) {
+            if (token.isEmpty()) {
+                continue;
+            }
+            boolean found = false;
+            int index = name.indexOf(token);
+            while (index >= 0) {
+                if (index == 0 || !Character.isLetterOrDigit(name.charAt(index - 1))) {
+                    found = true;
+                    break;
+                }
+                index = name.indexOf(token, index + 1);
+            }
+            if (!found) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static final class FilterResult {
+        final String query;
+        // Family indexes of the matches, null means all families.
+        final int[] matches;
+        final int count;
+        final int exactMatch;
+
+        FilterResult(String query, int[] matches, int count, int exactMatch) {
+            this.query = query;
+            this.matches = matches;
+            this.count = count;
+            this.exactMatch = exactMatch;
+        }
+    }
+}
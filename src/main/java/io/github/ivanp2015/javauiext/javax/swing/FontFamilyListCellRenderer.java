@@ -0,0 +1,150 @@
+/*
+ * Java UI Extensions project.
+ * https://ivanp2015.github.io/javauiext
+ *
+ * Copyright (c) 2018, Ivan Pizhenko. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Ivan Pizhenko designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Ivan Pizhenko in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package io.github.ivanp2015.javauiext.javax.swing;
+
+import java.awt.Component;
+import java.awt.Graphics;
+import java.awt.GraphicsConfiguration;
+import java.awt.image.BufferedImage;
+import javax.swing.DefaultListCellRenderer;
+import javax.swing.Icon;
+import javax.swing.JList;
+
+/**
+ * List cell renderer, which draws each font family name in its own font.
+ *
+ * Family name images are rendered in background for the visible and
+ * nearby rows and kept in a bounded cache shared by all renderers.
+ * Until the image is ready, the family name is drawn as plain text.
+ * The renderer never instantiates fonts on the event dispatch thread.
+ *
+ * Rows have the height of the list font, so the list should use
+ * {@link JList#setFixedCellHeight(int)} or a prototype cell value
+ * to avoid measuring every row.
+ *
+ * @author Ivan Pizhenko
+ * @since 0.1.1
+ */
+public class FontFamilyListCellRenderer extends DefaultListCellRenderer {
+    private static final long serialVersionUID = 1L;
+
+    private static final int PREFETCH_MARGIN = 20;
+
+    private transient TileIcon tileIcon;
+    private transient JList<?> prefetchList;
+    private int prefetchFirst = -1;
+    private int prefetchLast = -1;
+
+    /**
+     * Constructs new object of class {@code FontFamilyListCellRenderer}.
+     */
+    public FontFamilyListCellRenderer() {
+    }
+
+    @Override
+    public Component getListCellRendererComponent(JList<?> list, Object value, int index,
+            boolean isSelected, boolean cellHasFocus) {
+        super.getListCellRendererComponent(list, value, index, isSelected, cellHasFocus);
+        if (value != null && index >= 0) {
+            final FontFamilyTileCache.TileKey key = createKey(list, value.toString());
+            final BufferedImage tile = FontFamilyTileCache.getShared().get(key);
+            if (tile == null) {
+                prefetch(list, index, key);
+            } else if (tile != FontFamilyTileCache.NOT_RENDERABLE) {
+                if (tileIcon == null) {
+                    tileIcon = new TileIcon();
+                }
+                tileIcon.setTile(tile, key.scale);
+                setIcon(tileIcon);
+                setText(null);
+            }
+        }
+        return this;
+    }
+
+    private FontFamilyTileCache.TileKey createKey(JList<?> list, String family) {
+        final int height = list.getFontMetrics(list.getFont()).getHeight();
+        return new FontFamilyTileCache.TileKey(family, list.getFont().getSize2D(), height,
+                getScale(list), getForeground().getRGB());
+    }
+
+    // Requests tiles for the visible rows and some rows around them.
+    private void prefetch(JList<?> list, int index, FontFamilyTileCache.TileKey key) {
+        final FontFamilyTileCache cache = FontFamilyTileCache.getShared();
+        cache.request(key, list);
+        final int first = Math.max(0, list.getFirstVisibleIndex() - PREFETCH_MARGIN);
+        final int last = Math.min(list.getModel().getSize() - 1,
+                list.getLastVisibleIndex() + PREFETCH_MARGIN);
+        if (list == prefetchList && first == prefetchFirst && last == prefetchLast) {
+            return;
+        }
+        prefetchList = list;
+        prefetchFirst = first;
+        prefetchLast = last;
+        for (int i = first; i <= last && i >= 0; i++) {
+            if (i != index) {
+                final Object element = list.getModel().getElementAt(i);
+                if (element != null) {
+                    final FontFamilyTileCache.TileKey k = new FontFamilyTileCache.TileKey(
+                            element.toString(), key.pointSize, key.height, key.scale, key.rgb);
+                    cache.request(k, list);
+                }
+            }
+        }
+    }
+
+    private static double getScale(JList<?> list) {
+        final GraphicsConfiguration gc = list.getGraphicsConfiguration();
+        return gc != null ? gc.getDefaultTransform().getScaleX() : 1.0;
+    }
+
+    /**
+     * Icon, which paints a tile rendered at device scale.
+     */
+    private static final class TileIcon implements Icon {
+        private BufferedImage tile;
+        private double scale = 1.0;
+
+        void setTile(BufferedImage tile, double scale) {
+            this.tile = tile;
+            this.scale = scale;
+        }
+
+        @Override
+        public void paintIcon(Component c, Graphics g, int x, int y) {
+            g.drawImage(tile, x, y, getIconWidth(), getIconHeight(), null);
+        }
+
+        @Override
+        public int getIconWidth() {
+            return (int) Math.ceil(tile.getWidth() / scale);
+        }
+
+        @Override
+        public int getIconHeight() {
+            return (int) Math.ceil(tile.getHeight() / scale);
+        }
+    }
+}
@@ -0,0 +1,254 @@
+/*
+ * Java UI Extensions project.
+ * https://ivanp2015.github.io/javauiext
+ *
+ * Copyright (c) 2018, Ivan Pizhenko. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Ivan Pizhenko designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Ivan Pizhenko in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package io.github.ivanp2015.javauiext.javax.swing;
+
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.font.FontRenderContext;
+import java.awt.font.LineMetrics;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import javax.swing.JList;
+import javax.swing.SwingUtilities;
+
+/**
+ * Bounded LRU cache of font family name images, each one drawn in its own
+ * font. Images are rendered by a background executor, so that neither
+ * fonts are instantiated nor glyphs are rasterized on the event dispatch
+ * thread.
+ *
+ * @author Ivan Pizhenko
+ * @since 0.1.1
+ */
+final class FontFamilyTileCache {
+
+    private static final int DEFAULT_CAPACITY = 1024;
+    private static final int MAX_TILE_WIDTH = 1024;
+    private static final int MAX_QUEUED_TILES = 256;
+
+    /**
+     * Marks families, which can't display their own names.
+     */
+    static final BufferedImage NOT_RENDERABLE = new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB);
+
+    private static final FontFamilyTileCache shared = new FontFamilyTileCache(DEFAULT_CAPACITY);
+
+    private final Map<TileKey, BufferedImage> tiles;
+    private final Set<TileKey> pending = ConcurrentHashMap.newKeySet();
+    private final ThreadPoolExecutor executor;
+
+    FontFamilyTileCache(final int capacity) {
+        this.tiles = new LinkedHashMap<TileKey, BufferedImage>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<TileKey, BufferedImage> eldest) {
+                return size() > capacity;
+            }
+        };
+        final BlockingQueue<Runnable> queue = new ArrayBlockingQueue<>(MAX_QUEUED_TILES);
+        this.executor = new ThreadPoolExecutor(1, 1, 30, TimeUnit.SECONDS, queue,
+                new TileRendererThreadFactory(), new DiscardOldestTileHandler());
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    static FontFamilyTileCache getShared() {
+        return shared;
+    }
+
+    /**
+     * Returns cached tile.
+     *
+     * @param key tile key.
+     * @return tile image, {@link #NOT_RENDERABLE}, or {@code null} if
+     *         the tile is not rendered yet.
+     */
+    BufferedImage get(TileKey key) {
+        synchronized(tiles) {
+            return tiles.get(key);
+        }
+    }
+
+    /**
+     * Schedules rendering of the tile, unless it is already
+     * rendered or scheduled. List is repainted once the tile is ready.
+     *
+     * @param key tile key.
+     * @param list list to repaint.
+     */
+    void request(TileKey key, JList<?> list) {
+        if (get(key) == null && pending.add(key)) {
+            executor.execute(new TileRenderer(key, list));
+        }
+    }
+
+    private void put(TileKey key, BufferedImage tile) {
+        synchronized(tiles) {
+            tiles.put(key, tile);
+        }
+    }
+
+    private static BufferedImage render(TileKey key) {
+        final float scale = (float) key.scale;
+        final Font font = new Font(key.family, Font.PLAIN, 1).deriveFont(key.pointSize * scale);
+        if (font.canDisplayUpTo(key.family) >= 0) {
+            return NOT_RENDERABLE;
+        }
+        final FontRenderContext frc = new FontRenderContext(null, true, true);
+        final Rectangle2D bounds = font.getStringBounds(key.family, frc);
+        final LineMetrics metrics = font.getLineMetrics(key.family, frc);
+        final int width = Math.max(1, Math.min(MAX_TILE_WIDTH,
+                (int) Math.ceil(bounds.getWidth() + 2 * scale)));
+        final int height = Math.max(1, (int) Math.ceil(key.height * scale));
+        final float baseline = (height - metrics.getAscent() - metrics.getDescent()) / 2
+                + metrics.getAscent();
+
+        final BufferedImage tile = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        final Graphics2D g = tile.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING,
+                    RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+            g.setRenderingHint(RenderingHints.KEY_FRACTIONALMETRICS,
+                    RenderingHints.VALUE_FRACTIONALMETRICS_ON);
+            g.setColor(new Color(key.rgb, true));
+            g.setFont(font);
+            g.drawString(key.family, 0, baseline);
+        } finally {
+            g.dispose();
+        }
+        return tile;
+    }
+
+    /**
+     * Tile cache key.
+     */
+    static final class TileKey {
+        final String family;
+        final float pointSize;
+        final int height;
+        final double scale;
+        final int rgb;
+
+        TileKey(String family, float pointSize, int height, double scale, int rgb) {
+            this.family = family;
+            this.pointSize = pointSize;
+            this.height = height;
+            this.scale = scale;
+            this.rgb = rgb;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof TileKey)) {
+                return false;
+            }
+            final TileKey other = (TileKey) obj;
+            return family.equals(other.family) && pointSize == other.pointSize
+                    && height == other.height && scale == other.scale && rgb == other.rgb;
+        }
+
+        @Override
+        public int hashCode() {
+            int h = family.hashCode();
+            h = 31 * h + Float.floatToIntBits(pointSize);
+            h = 31 * h + height;
+            h = 31 * h + Double.valueOf(scale).hashCode();
+            h = 31 * h + rgb;
+            return h;
+        }
+    }
+
+    private final class TileRenderer implements Runnable {
+        final TileKey key;
+        final JList<?> list;
+
+        TileRenderer(TileKey key, JList<?> list) {
+            this.key = key;
+            this.list = list;
+        }
+
+        @Override
+        public void run() {
+            try {
+                put(key, render(key));
+            } catch (RuntimeException ex) {
+                put(key, NOT_RENDERABLE);
+            } finally {
+                pending.remove(key);
+            }
+            SwingUtilities.invokeLater(new Runnable() {
+                @Override
+                public void run() {
+                    list.repaint();
+                }
+            });
+        }
+    }
+
+    /**
+     * Drops the oldest queued tile, which has most likely been scrolled
+     * out of view, to make room for the new one.
+     */
+    private final class DiscardOldestTileHandler implements RejectedExecutionHandler {
+        @Override
+        public void rejectedExecution(Runnable r, ThreadPoolExecutor e) {
+            if (e.isShutdown()) {
+                return;
+            }
+            final Runnable oldest = e.getQueue().poll();
+            if (oldest instanceof TileRenderer) {
+                pending.remove(((TileRenderer) oldest).key);
+            }
+            if (!e.getQueue().offer(r) && r instanceof TileRenderer) {
+                pending.remove(((TileRenderer) r).key);
+            }
+        }
+    }
+
+    private static final class TileRendererThreadFactory implements ThreadFactory {
+        @Override
+        public Thread newThread(Runnable r) {
+            final Thread thread = new Thread(r, "FontFamilyTileRenderer");
+            thread.setDaemon(true);
+            thread.setPriority(Thread.MIN_PRIORITY);
+            return thread;
+        }
+    }
+}
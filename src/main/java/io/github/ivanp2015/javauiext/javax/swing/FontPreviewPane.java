@@ -0,0 +1,330 @@
+/*
+ * Java UI Extensions project.
+ * https://ivanp2015.github.io/javauiext
+ *
+ * Copyright (c) 2018, Ivan Pizhenko. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Ivan Pizhenko designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Ivan Pizhenko in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package io.github.ivanp2015.javauiext.javax.swing;
+
+import java.awt.Color;
+import java.awt.Dimension;
+import java.awt.Font;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.Insets;
+import java.awt.RenderingHints;
+import java.awt.font.FontRenderContext;
+import java.awt.font.LineBreakMeasurer;
+import java.awt.font.TextAttribute;
+import java.awt.font.TextLayout;
+import java.awt.image.BufferedImage;
+import java.text.AttributedString;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import javax.swing.JComponent;
+import javax.swing.LookAndFeel;
+import javax.swing.SwingUtilities;
+
+/**
+ * Component, which shows multi-line sample text in its font.
+ *
+ * Sample text may consist of several paragraphs separated by line feeds,
+ * each one wrapped to the component width. Text is laid out with
+ * {@link LineBreakMeasurer} and drawn into an image on a background thread,
+ * and the event dispatch thread just draws the finished image, so changing
+ * the font stays responsive even for large samples. Until the image for
+ * the new font is ready, the previous one is shown. Images are cached
+ * per font, width, text and color.
+ *
+ * @author Ivan Pizhenko
+ * @since 0.1.1
+ */
+public class FontPreviewPane extends JComponent {
+    private static final long serialVersionUID = 1L;
+
+    private static final int CACHE_CAPACITY = 16;
+    private static final int MAX_IMAGE_HEIGHT = 4096;
+
+    private static final ThreadPoolExecutor renderer = createRenderer();
+
+    private String sampleText;
+    private transient Map<PreviewKey, BufferedImage> cache;
+    private transient volatile PreviewKey requestedKey;
+    private transient BufferedImage shownImage;
+    private transient double shownScale = 1.0;
+
+    /**
+     * Constructs new object of class {@code FontPreviewPane}.
+     *
+     * @param sampleText sample text.
+     */
+    public FontPreviewPane(String sampleText) {
+        this.sampleText = sampleText != null ? sampleText : "";
+        setOpaque(false);
+        updateUI();
+    }
+
+    @Override
+    public void updateUI() {
+        LookAndFeel.installColorsAndFont(this, "TextField.background",
+                "TextField.foreground", "TextField.font");
+        super.updateUI();
+    }
+
+    /**
+     * Sets sample text. Paragraphs are separated by line feeds.
+     *
+     * @param sampleText sample text.
+     */
+    public void setSampleText(String sampleText) {
+        final String oldValue = this.sampleText;
+        this.sampleText = sampleText != null ? sampleText : "";
+        if (!this.sampleText.equals(oldValue)) {
+            firePropertyChange("sampleText", oldValue, this.sampleText);
+            repaint();
+        }
+    }
+
+    /**
+     * Returns sample text.
+     *
+     * @return sample text.
+     */
+    public String getSampleText() {
+        return sampleText;
+    }
+
+    @Override
+    public Dimension getPreferredSize() {
+        if (isPreferredSizeSet()) {
+            return super.getPreferredSize();
+        }
+        final Insets insets = getInsets();
+        return new Dimension(300 + insets.left + insets.right, 100 + insets.top + insets.bottom);
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        if (isOpaque()) {
+            g.setColor(getBackground());
+            g.fillRect(0, 0, getWidth(), getHeight());
+        }
+        final Insets insets = getInsets();
+        final int width = getWidth() - insets.left - insets.right;
+        if (width <= 0 || getFont() == null) {
+            return;
+        }
+        final PreviewKey key = new PreviewKey(getFont(), width, sampleText,
+                getForeground().getRGB(), getScale());
+        final BufferedImage image = getCache().get(key);
+        if (image != null) {
+            shownImage = image;
+            shownScale = key.scale;
+        } else if (!key.equals(requestedKey)) {
+            requestedKey = key;
+            renderer.execute(new PreviewRenderer(key));
+        }
+        if (shownImage != null) {
+            g.drawImage(shownImage, insets.left, insets.top,
+                    (int) Math.ceil(shownImage.getWidth() / shownScale),
+                    (int) Math.ceil(shownImage.getHeight() / shownScale), null);
+        }
+    }
+
+    private Map<PreviewKey, BufferedImage> getCache() {
+        if (cache == null) {
+            cache = new LinkedHashMap<PreviewKey, BufferedImage>(16, 0.75f, true) {
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<PreviewKey, BufferedImage> eldest) {
+                    return size() > CACHE_CAPACITY;
+                }
+            };
+        }
+        return cache;
+    }
+
+    private double getScale() {
+        final GraphicsConfiguration gc = getGraphicsConfiguration();
+        return gc != null ? gc.getDefaultTransform().getScaleX() : 1.0;
+    }
+
+    /**
+     * Lays out and draws the sample text.
+     *
+     * @param key preview parameters.
+     * @return image at device scale.
+     */
+    static BufferedImage render(PreviewKey key) {
+        final float scale = (float) key.scale;
+        final Font font = key.font.deriveFont(key.font.getSize2D() * scale);
+        final float wrappingWidth = key.width * scale;
+        final FontRenderContext frc = new FontRenderContext(null, true, true);
+
+        final List<TextLayout> lines = new ArrayList<>();
+        float height = 0;
+        for (String paragraph : key.text.split("\n", -1)) {
+            if (paragraph.isEmpty()) {
+                // Empty paragraph still takes a line.
+                final TextLayout blank = new TextLayout(" ", font, frc);
+                lines.add(null);
+                height += blank.getAscent() + blank.getDescent() + blank.getLeading();
+                continue;
+            }
+            final AttributedString text = new AttributedString(paragraph);
+            text.addAttribute(TextAttribute.FONT, font);
+            final LineBreakMeasurer measurer = new LineBreakMeasurer(text.getIterator(), frc);
+            while (measurer.getPosition() < paragraph.length() && height < MAX_IMAGE_HEIGHT) {
+                final TextLayout line = measurer.nextLayout(Math.max(1f, wrappingWidth));
+                lines.add(line);
+                height += line.getAscent() + line.getDescent() + line.getLeading();
+            }
+            if (height >= MAX_IMAGE_HEIGHT) {
+                break;
+            }
+        }
+
+        final int imageWidth = Math.max(1, (int) Math.ceil(wrappingWidth));
+        final int imageHeight = Math.max(1, Math.min(MAX_IMAGE_HEIGHT, (int) Math.ceil(height)));
+        final BufferedImage image = new BufferedImage(imageWidth, imageHeight,
+                BufferedImage.TYPE_INT_ARGB);
+        final Graphics2D g = image.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING,
+                    RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+            g.setRenderingHint(RenderingHints.KEY_FRACTIONALMETRICS,
+                    RenderingHints.VALUE_FRACTIONALMETRICS_ON);
+            g.setColor(new Color(key.rgb, true));
+            final TextLayout blank = new TextLayout(" ", font, frc);
+            float y = 0;
+            for (TextLayout line : lines) {
+                final TextLayout metrics = line != null ? line : blank;
+                y += metrics.getAscent();
+                if (line != null) {
+                    final float x = line.isLeftToRight() ? 0 : wrappingWidth - line.getAdvance();
+                    line.draw(g, x, y);
+                }
+                y += metrics.getDescent() + metrics.getLeading();
+            }
+        } finally {
+            g.dispose();
+        }
+        return image;
+    }
+
+    private static ThreadPoolExecutor createRenderer() {
+        final ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 30, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<Runnable>(), new ThreadFactory() {
+                    @Override
+                    public Thread newThread(Runnable r) {
+                        final Thread thread = new Thread(r, "FontPreviewRenderer");
+                        thread.setDaemon(true);
+                        return thread;
+                    }
+                });
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    /**
+     * Preview cache key.
+     */
+    static final class PreviewKey {
+        final Font font;
+        final int width;
+        final String text;
+        final int rgb;
+        final double scale;
+
+        PreviewKey(Font font, int width, String text, int rgb, double scale) {
+            this.font = font;
+            this.width = width;
+            this.text = text;
+            this.rgb = rgb;
+            this.scale = scale;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof PreviewKey)) {
+                return false;
+            }
+            final PreviewKey other = (PreviewKey) obj;
+            return width == other.width && rgb == other.rgb && scale == other.scale
+                    && font.equals(other.font) && text.equals(other.text);
+        }
+
+        @Override
+        public int hashCode() {
+            int h = font.hashCode();
+            h = 31 * h + width;
+            h = 31 * h + text.hashCode();
+            h = 31 * h + rgb;
+            h = 31 * h + Double.valueOf(scale).hashCode();
+            return h;
+        }
+    }
+
+    private final class PreviewRenderer implements Runnable {
+        private final PreviewKey key;
+
+        PreviewRenderer(PreviewKey key) {
+            this.key = key;
+        }
+
+        @Override
+        public void run() {
+            // Only the latest request matters, skip superseded ones.
+            if (key != requestedKey) {
+                return;
+            }
+            BufferedImage image;
+            try {
+                image = render(key);
+            } catch (RuntimeException ex) {
+                // Broken font, cache an empty image to not retry it.
+                image = new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB);
+            }
+            final BufferedImage result = image;
+            SwingUtilities.invokeLater(new Runnable() {
+                @Override
+                public void run() {
+                    getCache().put(key, result);
+                    if (requestedKey == key) {
+                        requestedKey = null;
+                    }
+                    repaint();
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,218 @@
+/*
+ * Java UI Extensions project.
+ * https://ivanp2015.github.io/javauiext
+ *
+ * Copyright (c) 2018, Ivan Pizhenko. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Ivan Pizhenko designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Ivan Pizhenko in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package io.github.ivanp2015.javauiext.javax.swing;
+
+import java.awt.FontMetrics;
+import java.util.Arrays;
+import javax.swing.ListModel;
+import javax.swing.event.ListDataListener;
+
+/**
+ * Read-only list model of font sizes, which may be shared by any number
+ * of lists.
+ *
+ * Sizes are kept as {@code float} values along with their labels, which
+ * are formatted once, so that neither selecting a size from the list nor
+ * updating the preview involves formatting or parsing strings. Sizes may
+ * be fractional. Lookup of the size closest to a given one is done by
+ * binary search over the sorted copy of sizes.
+ *
+ * @author Ivan Pizhenko
+ * @since 0.1.1
+ */
+final class FontSizeListModel implements ListModel<String> {
+
+    private final float[] sizes;
+    private final SharedListModel labels;
+    private final float[] sortedSizes;
+    private final int[] sortedIndexes;
+
+    /**
+     * Constructs new object of class {@code FontSizeListModel}.
+     * Labels are formatted with {@link #format(float)}.
+     *
+     * @param sizes font sizes, in list order.
+     */
+    FontSizeListModel(float[] sizes) {
+        this(sizes.clone(), format(sizes));
+    }
+
+    private FontSizeListModel(float[] sizes, String[] labels) {
+        this.sizes = sizes;
+        this.labels = new SharedListModel(labels);
+        final Integer[] order = new Integer[sizes.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Float.compare(sizes[a], sizes[b]));
+        this.sortedSizes = new float[sizes.length];
+        this.sortedIndexes = new int[sizes.length];
+        for (int i = 0; i < order.length; i++) {
+            sortedSizes[i] = sizes[order[i]];
+            sortedIndexes[i] = order[i];
+        }
+    }
+
+    /**
+     * Creates model of the font sizes given as strings. Strings are parsed
+     * once and kept as labels. Strings, which are not valid font sizes,
+     * are skipped.
+     *
+     * @param sizeStrings font sizes, in list order.
+     * @return new model.
+     */
+    static FontSizeListModel parse(String[] sizeStrings) {
+        final float[] sizes = new float[sizeStrings.length];
+        final String[] labels = new String[sizeStrings.length];
+        int count = 0;
+        for (String sizeString : sizeStrings) {
+            final float size = parse(sizeString);
+            if (!Float.isNaN(size)) {
+                sizes[count] = size;
+                labels[count] = sizeString;
+                count++;
+            }
+        }
+        return new FontSizeListModel(Arrays.copyOf(sizes, count), Arrays.copyOf(labels, count));
+    }
+
+    /**
+     * Parses font size.
+     *
+     * @param s font size string.
+     * @return positive font size, or {@link Float#NaN} if the string is not
+     *         a valid font size.
+     */
+    static float parse(CharSequence s) {
+        if (s == null) {
+            return Float.NaN;
+        }
+        final String trimmed = s.toString().trim();
+        if (trimmed.isEmpty()) {
+            return Float.NaN;
+        }
+        final float size;
+        try {
+            size = Float.parseFloat(trimmed);
+        } catch (NumberFormatException e) {
+            return Float.NaN;
+        }
+        return size > 0 && size < Float.POSITIVE_INFINITY ? size : Float.NaN;
+    }
+
+    /**
+     * Formats font size, without fractional part if the size is integer.
+     *
+     * @param size font size.
+     * @return font size string.
+     */
+    static String format(float size) {
+        final int intSize = (int) size;
+        return intSize == size ? Integer.toString(intSize) : Float.toString(size);
+    }
+
+    private static String[] format(float[] sizes) {
+        final String[] labels = new String[sizes.length];
+        for (int i = 0; i < labels.length; i++) {
+            labels[i] = format(sizes[i]);
+        }
+        return labels;
+    }
+
+    @Override
+    public int getSize() {
+        return sizes.length;
+    }
+
+    @Override
+    public String getElementAt(int index) {
+        return labels.getElementAt(index);
+    }
+
+    @Override
+    public void addListDataListener(ListDataListener l) {
+        // Contents never change, so there's nothing to notify about.
+    }
+
+    @Override
+    public void removeListDataListener(ListDataListener l) {
+        // Contents never change, so there's nothing to notify about.
+    }
+
+    /**
+     * Returns font size at the specified index.
+     *
+     * @param index list index.
+     * @return font size.
+     */
+    float getFontSize(int index) {
+        return sizes[index];
+    }
+
+    /**
+     * Returns index of the specified font size.
+     *
+     * @param size font size.
+     * @return list index, or {@code -1} if there is no such size.
+     */
+    int indexOf(float size) {
+        final int position = Arrays.binarySearch(sortedSizes, size);
+        return position >= 0 ? sortedIndexes[position] : -1;
+    }
+
+    /**
+     * Returns index of the font size closest to the specified one.
+     * Of two equally close sizes, the smaller one is chosen.
+     *
+     * @param size font size.
+     * @return list index, or {@code -1} if the model is empty.
+     */
+    int indexOfNearest(float size) {
+        if (sortedSizes.length == 0) {
+            return -1;
+        }
+        int position = Arrays.binarySearch(sortedSizes, size);
+        if (position < 0) {
+            final int insertion = -position - 1;
+            if (insertion == 0) {
+                position = 0;
+            } else if (insertion == sortedSizes.length) {
+                position = insertion - 1;
+            } else {
+                position = size - sortedSizes[insertion - 1] <= sortedSizes[insertion] - size
+                        ? insertion - 1 : insertion;
+            }
+        }
+        return sortedIndexes[position];
+    }
+
+    ListSearchIndex getSearchIndex() {
+        return labels.getSearchIndex();
+    }
+
+    String getPrototypeCellValue(FontMetrics metrics) {
+        return labels.getPrototypeCellValue(metrics);
+    }
+}
@@ -46,6 +46,11 @@
 
 package io.github.ivanp2015.javauiext.javax.swing;
 
+import io.github.ivanp2015.javauiext.java.awt.helpers.FontCache;
+import io.github.ivanp2015.javauiext.java.awt.helpers.FontFamilyCapability;
+import io.github.ivanp2015.javauiext.java.awt.helpers.FontFamilyCatalog;
+import io.github.ivanp2015.javauiext.util.CaseInsensitiveStringIndex;
+import io.github.ivanp2015.javauiext.util.FlightRecorderEvents;
 import java.awt.BorderLayout;
 import java.awt.Component;
 import java.awt.Container;
@@ -68,37 +73,59 @@ import java.awt.event.KeyAdapter;
 import java.awt.event.KeyEvent;
 import java.awt.event.WindowAdapter;
 import java.awt.event.WindowEvent;
+import java.beans.PropertyChangeEvent;
+import java.beans.PropertyChangeListener;
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
 import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiConsumer;
 import javax.swing.AbstractAction;
+import javax.swing.AbstractListModel;
 import javax.swing.Action;
 import javax.swing.ActionMap;
 import javax.swing.BorderFactory;
 import javax.swing.BoxLayout;
+import javax.swing.DefaultListCellRenderer;
 import javax.swing.InputMap;
 import javax.swing.JButton;
 import javax.swing.JComponent;
 import javax.swing.JDialog;
 import javax.swing.JLabel;
 import javax.swing.JList;
-import javax.swing.JOptionPane;
 import javax.swing.JPanel;
 import javax.swing.JRootPane;
 import javax.swing.JScrollPane;
 import javax.swing.JTextField;
 import javax.swing.KeyStroke;
+import javax.swing.ListModel;
 import javax.swing.ListSelectionModel;
 import javax.swing.SwingUtilities;
+import javax.swing.SwingWorker;
 import javax.swing.UIManager;
 import javax.swing.border.Border;
+import javax.swing.border.TitledBorder;
+import javax.swing.event.ChangeEvent;
+import javax.swing.event.ChangeListener;
 import javax.swing.event.DocumentEvent;
 import javax.swing.event.DocumentListener;
+import javax.swing.event.ListDataEvent;
+import javax.swing.event.ListDataListener;
 import javax.swing.event.ListSelectionEvent;
 import javax.swing.event.ListSelectionListener;
 import javax.swing.text.BadLocationException;
 import javax.swing.text.Document;
 import javax.swing.text.JTextComponent;
 import javax.swing.text.Position;
+import javax.swing.text.Segment;
 
 /**
  * The {@code JFontChooser} class is a Swing component for a font selection.
@@ -140,6 +167,29 @@ public class JFontChooser extends JComponent
      */
     public static final int ERROR_OPTION = -1;
 
+    /**
+     * Font family filter modes.
+     *
+     * @see JFontChooser#setFontFamilyFilterMode(FontFamilyFilterMode)
+     */
+    public enum FontFamilyFilterMode {
+        /**
+         * Font family list is not filtered.
+         */
+        NONE,
+
+        /**
+         * Font family list shows families containing the typed text, ignoring case.
+         */
+        SUBSTRING,
+
+        /**
+         * Font family list shows families, where each whitespace separated
+         * token of the typed text starts a word, ignoring case.
+         */
+        TOKENS
+    }
+
     private static final Font DEFAULT_SELECTED_FONT = new Font("Serif", Font.PLAIN, 12);
     
     private static final int[] FONT_STYLE_CODES = {
@@ -151,13 +201,37 @@ public class JFontChooser extends JComponent
         "22", "24", "26", "28", "36", "48", "72",
     };
 
-    private static final Object bundleRegistrationLock = new Object();
-    private static volatile boolean bundleRegistered;
+    private static final FontSizeListModel DEFAULT_FONT_SIZE_MODEL =
+        FontSizeListModel.parse(DEFAULT_FONT_SIZE_STRINGS);
+
+    private static boolean dialogReuseEnabled;
+    private static final Object prewarmLock = new Object();
+    private static CompletableFuture<Void> prewarmFuture;
 
     protected int dialogResultValue = ERROR_OPTION;    
     private String[] fontStyleNames;
     private String[] fontFamilyNames;
     private String[] fontSizeStrings;
+    private FontSizeListModel fontSizeModel;
+    private float selectedFontSize;
+    // Whether the font size text field contains a valid size.
+    private boolean fontSizeTextValid = true;
+    private SharedListModel fontFamilyModel;
+    private final boolean loadFontFamiliesAsynchronously;
+    private FontFamilyLoader fontFamilyLoader;
+    private final SelectionUpdateCoalescer updateCoalescer = new SelectionUpdateCoalescer();
+    private boolean updatingTextFromList;
+    private FontFamilyFilterMode fontFamilyFilterMode = FontFamilyFilterMode.NONE;
+    private FontFamilyFilterModel fontFamilyFilterModel;
+    private int hiddenSelectedFontFamily = -1;
+    private final Set<FontFamilyCapability> fontFamilyCapabilityFilter =
+        EnumSet.noneOf(FontFamilyCapability.class);
+    private boolean indexingFontFamilyMetadata;
+    private boolean filteringFontFamilies;
+    private int updateLevel;
+    private final List<ListSelectionHandler> pendingTextUpdates = new ArrayList<>(3);
+    private transient ChangeEvent changeEvent;
+    private Font notifiedFont;
     private JTextField fontFamilyTextField;
     private JTextField fontStyleTextField;
     private JTextField fontSizeTextField;
@@ -169,6 +243,11 @@ public class JFontChooser extends JComponent
     private JPanel fontSizePanel;
     private JPanel samplePanel;
     private JTextField sampleText;
+    private FontPreviewPane samplePreviewPane;
+    private TitledBorder sampleBorder;
+    private JLabel fontFamilyLabel;
+    private JLabel fontStyleLabel;
+    private JLabel fontSizeLabel;
 
     /**
      * Shows a modal font chooser dialog and blocks until the
@@ -189,16 +268,165 @@ public class JFontChooser extends JComponent
      */
     public static Font showDialog(Component component,
         String title, Font initialFont, String[] fontSizeStrings) throws HeadlessException {
+        return showDialog(component, title, initialFont, fontSizeStrings, false);
+    }
 
+    /**
+     * Shows a modal font chooser dialog and blocks until the
+     * dialog is hidden. Works like
+     * {@link #showDialog(Component, String, Font, String[])}, but optionally
+     * opens the dialog at once and fills the font family list in background.
+     *
+     * @param component          the parent component for the dialog.
+     * @param title              the String containing the dialog's title.
+     * @param initialFont        the initial font set when the font chooser is shown.
+     * @param fontSizeStrings    array of font size strings.
+     * @param loadFontFamiliesAsynchronously whether to enumerate font families
+     *                           in background.
+     * @return the selected color or {@code null} if the user opted out.
+     * @exception HeadlessException if {@link GraphicsEnvironment#isHeadless()}
+     * returns {@code true}.
+     * @see java.awt.GraphicsEnvironment#isHeadless()
+     * @see #JFontChooser(Font, String[], boolean)
+     * @see #setDialogReuseEnabled(boolean)
+     */
+    public static Font showDialog(Component component, String title, Font initialFont,
+            String[] fontSizeStrings, boolean loadFontFamiliesAsynchronously)
+            throws HeadlessException {
+
+        if (dialogReuseEnabled) {
+            return FontChooserDialogPool.showDialog(component, title, initialFont != null
+                    ? initialFont : DEFAULT_SELECTED_FONT, fontSizeStrings,
+                    loadFontFamiliesAsynchronously);
+        }
+        final Object event = FlightRecorderEvents.beginFontChooserDialogOpen();
         final JFontChooser pane = new JFontChooser(initialFont != null 
-                ? initialFont : DEFAULT_SELECTED_FONT);
+                ? initialFont : DEFAULT_SELECTED_FONT, fontSizeStrings,
+                loadFontFamiliesAsynchronously);
         final FontTracker ok = new FontTracker(pane);
-        JDialog dialog = createDialog(component, title, true, pane, ok, null);
+        JDialog dialog = newDialog(component, title, true, pane, ok, null);
         dialog.addComponentListener(new FontChooserDialog.DisposeOnClose());
+        FlightRecorderEvents.endFontChooserDialogOpen(event, "showDialog", false);
         dialog.setVisible(true); // blocks until user brings dialog down...
         return ok.getFont();
     }
 
+    /**
+     * Starts one-time initialization shared by all font choosers in
+     * background: registers localized resources, enumerates font families
+     * and builds font family search indexes. Applications may call this
+     * method at startup, for example while showing a splash screen.
+     * Font choosers created outside the event dispatch thread before
+     * the initialization completes wait for it. Font choosers created on
+     * the event dispatch thread don't block, but search their lists
+     * without an index until the initialization provides the indexes.
+     * Subsequent calls return
+     * the same future, unless it has failed or has been cancelled, in which
+     * case initialization is started again.
+     *
+     * @param executor executor to run initialization on.
+     * @return future, which completes when initialization is done.
+     * @see #prewarm()
+     */
+    public static CompletableFuture<Void> prewarm(Executor executor) {
+        if (executor == null) {
+            throw new IllegalArgumentException("executor must not be null");
+        }
+        synchronized(prewarmLock) {
+            if (prewarmFuture == null) {
+                final CompletableFuture<Void> future = CompletableFuture.runAsync(new Runnable() {
+                    @Override
+                    public void run() {
+                        final Locale locale = JComponent.getDefaultLocale();
+                        FontChooserMessages.forLocale(locale);
+                        final SharedListModel styles = SharedListModel.forFontStyles(locale);
+                        styles.getNameIndex();
+                        styles.getSearchIndex();
+                        SharedListModel.forFontFamilies(FontFamilyCatalog.getInstance())
+                            .getSearchIndex();
+                    }
+                }, executor);
+                prewarmFuture = future;
+                future.whenComplete(new BiConsumer<Void, Throwable>() {
+                    @Override
+                    public void accept(Void result, Throwable ex) {
+                        if (ex != null) {
+                            synchronized(prewarmLock) {
+                                if (prewarmFuture == future) {
+                                    prewarmFuture = null;
+                                }
+                            }
+                        }
+                    }
+                });
+            }
+            return prewarmFuture;
+        }
+    }
+
+    /**
+     * Starts one-time initialization shared by all font choosers
+     * on the common fork-join pool.
+     *
+     * @return future, which completes when initialization is done.
+     * @see #prewarm(Executor)
+     */
+    public static CompletableFuture<Void> prewarm() {
+        return prewarm(ForkJoinPool.commonPool());
+    }
+
+    // Returns whether initialization started by prewarm() is in progress.
+    private static boolean isPrewarming() {
+        synchronized(prewarmLock) {
+            return prewarmFuture != null && !prewarmFuture.isDone();
+        }
+    }
+
+    // Waits for initialization started by prewarm(), if any. Must not be called
+    // on the event dispatch thread, which may be the one to run the initialization.
+    private static void awaitPrewarm() {
+        final CompletableFuture<Void> future;
+        synchronized(prewarmLock) {
+            future = prewarmFuture;
+        }
+        if (future != null && !future.isDone()) {
+            try {
+                future.join();
+            } catch (CompletionException | CancellationException ex) {
+                // Initialization is just repeated on demand, ignore this exception.
+            }
+        }
+    }
+
+    /**
+     * Sets whether {@code showDialog()} reuses font chooser dialogs.
+     * When enabled, a closed dialog is not disposed, but kept hidden
+     * for its owner window, and the next {@code showDialog()} call
+     * for the same owner and font sizes resets it to the new initial font
+     * and shows it again. Kept dialogs are disposed when their owner
+     * window is closed or when reuse is disabled.
+     * Must be called on the event dispatch thread.
+     *
+     * @param enabled whether to reuse dialogs.
+     * @see #isDialogReuseEnabled()
+     */
+    public static void setDialogReuseEnabled(boolean enabled) {
+        dialogReuseEnabled = enabled;
+        if (!enabled) {
+            FontChooserDialogPool.clear();
+        }
+    }
+
+    /**
+     * Returns whether {@code showDialog()} reuses font chooser dialogs.
+     *
+     * @return {@code true} if dialogs are reused.
+     * @see #setDialogReuseEnabled(boolean)
+     */
+    public static boolean isDialogReuseEnabled() {
+        return dialogReuseEnabled;
+    }
+
     /**
      * Creates and returns a new dialog containing the specified
      * {@code JColorChooser} pane along with "OK", "Cancel", and "Reset"
@@ -223,6 +451,18 @@ public class JFontChooser extends JComponent
     public static JDialog createDialog(Component component, String title, boolean modal,
             JFontChooser chooserPane, ActionListener okListener,
             ActionListener cancelListener) throws HeadlessException {
+        final Object event = FlightRecorderEvents.beginFontChooserDialogOpen();
+        final JDialog dialog = newDialog(component, title, modal, chooserPane,
+                okListener, cancelListener);
+        FlightRecorderEvents.endFontChooserDialogOpen(event, "createDialog", false);
+        return dialog;
+    }
+
+    // Creates dialog like createDialog() does, but without recording an event,
+    // for callers, which record opening of the dialog themselves.
+    static JDialog newDialog(Component component, String title, boolean modal,
+            JFontChooser chooserPane, ActionListener okListener,
+            ActionListener cancelListener) throws HeadlessException {
         final Window window = JOptionPaneLocal.getWindowForComponent1(component);
         FontChooserDialog dialog;
         if (window instanceof Frame) {
@@ -259,10 +499,37 @@ public class JFontChooser extends JComponent
      * @param fontSizeStrings  the array of font size string.
      */
     public JFontChooser(Font initialFont, String[] fontSizeStrings) {
+        this(initialFont, fontSizeStrings, false);
+    }
+
+    /**
+     * Constructs a {@code JFontChooser} object using the given font size array.
+     * If {@code loadFontFamiliesAsynchronously} is {@code true} and font
+     * families have not been enumerated yet, the font family list is filled
+     * in batches by a background task, while the rest of the chooser
+     * is usable at once. Until the family of the selected font arrives,
+     * its name is kept in the list as a placeholder.
+     *
+     * @param initialFont initial font.
+     * @param fontSizeStrings  the array of font size string.
+     * @param loadFontFamiliesAsynchronously whether to enumerate font families
+     *                                       in background.
+     */
+    public JFontChooser(Font initialFont, String[] fontSizeStrings,
+            boolean loadFontFamiliesAsynchronously) {
+        final Object event = FlightRecorderEvents.beginFontChooserConstruction();
         if (fontSizeStrings == null) {
             fontSizeStrings = DEFAULT_FONT_SIZE_STRINGS;
         }
         this.fontSizeStrings = fontSizeStrings;
+        // Strings, which are not valid sizes, are skipped.
+        final FontSizeListModel sizeModel = fontSizeStrings == DEFAULT_FONT_SIZE_STRINGS
+            ? DEFAULT_FONT_SIZE_MODEL : FontSizeListModel.parse(fontSizeStrings);
+        this.fontSizeModel = sizeModel.getSize() > 0 ? sizeModel : DEFAULT_FONT_SIZE_MODEL;
+        this.loadFontFamiliesAsynchronously = loadFontFamiliesAsynchronously;
+        if (!loadFontFamiliesAsynchronously && !SwingUtilities.isEventDispatchThread()) {
+            awaitPrewarm();
+        }
 
         final JPanel selectPanel = new JPanel();
         selectPanel.setLayout(new BoxLayout(selectPanel, BoxLayout.X_AXIS));
@@ -279,6 +546,7 @@ public class JFontChooser extends JComponent
         this.add(contentsPanel);
         this.setBorder(BorderFactory.createEmptyBorder(5, 5, 5, 5));
         this.setSelectedFont(initialFont != null ? initialFont : DEFAULT_SELECTED_FONT);
+        FlightRecorderEvents.endFontChooserConstruction(event, loadFontFamiliesAsynchronously);
     }
 
     /**
@@ -288,7 +556,12 @@ public class JFontChooser extends JComponent
      * @see #setSelectedFontFamily
      */
     public String getSelectedFontFamily() {
-        return getFontFamilyList().getSelectedValue();
+        final String family = getFontFamilyList().getSelectedValue();
+        if (family == null && fontFamilyFilterModel != null && hiddenSelectedFontFamily >= 0) {
+            // Selected family is filtered out of the list.
+            return fontFamilyFilterModel.getFamilyName(hiddenSelectedFontFamily);
+        }
+        return family;
     }
 
     /**
@@ -315,19 +588,25 @@ public class JFontChooser extends JComponent
      * @see #setSelectedFontSize
      */
     public int getSelectedFontSize() {
-        int fontSize = 1;
-        String fontSizeString = getFontSizeTextField().getText();
-        while (true) {
-            try {
-                fontSize = Integer.parseInt(fontSizeString);
-                break;
-            } catch (NumberFormatException e) {
-                fontSizeString = getFontSizeList().getSelectedValue();
-                getFontSizeTextField().setText(fontSizeString);
+        // Rounded the same way as Font.getSize() of a font with fractional size.
+        return (int) (getSelectedFontSize2D() + 0.5);
+    }
+
+    /**
+     * Gets the size of the selected font, which may be fractional.
+     *
+     * @return  the size of the selected font
+     * @see #setSelectedFontSize(float)
+     */
+    public float getSelectedFontSize2D() {
+        if (!fontSizeTextValid) {
+            // Like the list selection, text must show the selected size.
+            final int index = getFontSizeList().getSelectedIndex();
+            if (index >= 0) {
+                getFontSizeTextField().setText(fontSizeModel.getElementAt(index));
             }
         }
-
-        return fontSize;
+        return selectedFontSize;
     }
 
     /**
@@ -338,8 +617,8 @@ public class JFontChooser extends JComponent
      * @see java.awt.Font
      */
     public Font getSelectedFont() {
-        return new Font(getSelectedFontFamily(),
-            getSelectedFontStyle(), getSelectedFontSize());
+        return FontCache.getInstance().getFont(getSelectedFontFamily(),
+            getSelectedFontStyle(), getSelectedFontSize2D());
     }
 
     /**
@@ -350,14 +629,289 @@ public class JFontChooser extends JComponent
      */
     public void setSelectedFontFamily(String name)
     {
-        final String[] names = getFontFamilies();
-        for (int i = 0; i < names.length; i++) {
-            if (names[i].toLowerCase().equals(name.toLowerCase())) {
-                getFontFamilyList().setSelectedIndex(i);
-                break;
+        final JList<String> list = getFontFamilyList();
+        int index = indexOfFontFamily(list.getModel(), name);
+        if (index < 0 && fontFamilyFilterModel != null
+                && fontFamilyFilterModel.findFamilyIndex(name) >= 0) {
+            // Family is filtered out, show all families to select it.
+            filteringFontFamilies = true;
+            try {
+                fontFamilyFilterModel.clearFilter();
+            } finally {
+                filteringFontFamilies = false;
+            }
+            index = indexOfFontFamily(list.getModel(), name);
+        }
+        if (index >= 0) {
+            list.setSelectedIndex(index);
+        } else if (fontFamilyLoader != null) {
+            fontFamilyLoader.setPendingFontFamily(name);
+        } else if (fontFamilyFilterModel != null
+                && fontFamilyFilterModel.findFamilyIndex(name) >= 0) {
+            // Family lacks required capabilities, select it without showing.
+            filteringFontFamilies = true;
+            try {
+                hiddenSelectedFontFamily = fontFamilyFilterModel.findFamilyIndex(name);
+                list.clearSelection();
+            } finally {
+                filteringFontFamilies = false;
+            }
+        }
+        requestSampleFontUpdate();
+    }
+
+    // Returns list index of the family, ignoring case, or -1.
+    private int indexOfFontFamily(ListModel<String> model, String name) {
+        if (model instanceof SharedListModel) {
+            return ((SharedListModel) model).indexOf(name);
+        }
+        if (model instanceof FontFamilyFilterModel) {
+            final FontFamilyFilterModel filterModel = (FontFamilyFilterModel) model;
+            final int familyIndex = filterModel.findFamilyIndex(name);
+            return familyIndex >= 0 ? filterModel.indexOfFamilyIndex(familyIndex) : -1;
+        }
+        if (model instanceof FontFamilyListModel) {
+            return ((FontFamilyListModel) model).indexOf(name);
+        }
+        for (int i = 0; i < model.getSize(); i++) {
+            if (model.getElementAt(i).equalsIgnoreCase(name)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    // Returns model of all font families, shared if families are those of the catalog.
+    private SharedListModel getFontFamilyModel() {
+        if (fontFamilyModel == null) {
+            final SharedListModel shared =
+                SharedListModel.forFontFamilies(FontFamilyCatalog.getInstance());
+            final String[] families = getFontFamilies();
+            // Families may come from a subclass or be edited by it.
+            fontFamilyModel = Arrays.equals(families, shared.getElements())
+                ? shared : new SharedListModel(families.clone());
+        }
+        return fontFamilyModel;
+    }
+
+    private static ListSearchIndex createSearchIndex(ListModel<String> model) {
+        if (model instanceof SharedListModel) {
+            return ((SharedListModel) model).getSearchIndex();
+        }
+        if (model instanceof FontSizeListModel) {
+            return ((FontSizeListModel) model).getSearchIndex();
+        }
+        return ListSearchIndex.create(model);
+    }
+
+    // Lets the font family list size its cells by a prototype rather than by every row.
+    private void updateFontFamilyCellSize(JList<String> list) {
+        list.setPrototypeCellValue(fontFamilyLoader == null
+            ? getFontFamilyModel().getPrototypeCellValue(list.getFontMetrics(list.getFont()))
+            : null);
+        if (list.getCellRenderer() instanceof FontFamilyListCellRenderer) {
+            // Row height must not depend on whether a row is rendered yet.
+            list.setFixedCellHeight(list.getCellRenderer().getListCellRendererComponent(
+                    list, "Xy", -1, false, false).getPreferredSize().height);
+        } else if (list.getPrototypeCellValue() == null) {
+            list.setFixedCellWidth(-1);
+            list.setFixedCellHeight(-1);
+        }
+    }
+
+    /**
+     * Sets the font family filter mode. When filter mode is other than
+     * {@link FontFamilyFilterMode#NONE}, typing in the font family text
+     * field narrows the font family list down to the matching families,
+     * otherwise it just scrolls the list to the first matching family.
+     *
+     * @param mode font family filter mode.
+     * @see #getFontFamilyFilterMode()
+     */
+    public void setFontFamilyFilterMode(FontFamilyFilterMode mode) {
+        if (mode == null) {
+            throw new IllegalArgumentException("mode must not be null");
+        }
+        if (mode != fontFamilyFilterMode) {
+            fontFamilyFilterMode = mode;
+            if (fontFamilyLoader == null) {
+                installFontFamilyFilter();
+            }
+        }
+    }
+
+    /**
+     * Returns the font family filter mode.
+     *
+     * @return font family filter mode.
+     * @see #setFontFamilyFilterMode(FontFamilyFilterMode)
+     */
+    public FontFamilyFilterMode getFontFamilyFilterMode() {
+        return fontFamilyFilterMode;
+    }
+
+    /**
+     * Sets capabilities, which font families must have to be shown
+     * in the font family list, for example to show only monospaced
+     * families, or families, which can display Cyrillic letters.
+     * Capabilities are looked up in the metadata index of the
+     * {@link FontFamilyCatalog}. If the index is not built yet,
+     * it is built in background, and the list is filtered once it's ready.
+     *
+     * @param capabilities required capabilities, empty set or
+     *                     {@code null} to show all families.
+     * @see #getFontFamilyCapabilityFilter()
+     * @see FontFamilyCatalog#indexMetadata()
+     */
+    public void setFontFamilyCapabilityFilter(Set<FontFamilyCapability> capabilities) {
+        if (capabilities == null) {
+            capabilities = EnumSet.noneOf(FontFamilyCapability.class);
+        }
+        if (!fontFamilyCapabilityFilter.equals(capabilities)) {
+            fontFamilyCapabilityFilter.clear();
+            fontFamilyCapabilityFilter.addAll(capabilities);
+            if (fontFamilyLoader == null) {
+                installFontFamilyFilter();
             }
         }
-        updateSampleFont();
+    }
+
+    /**
+     * Returns capabilities, which font families must have to be shown
+     * in the font family list.
+     *
+     * @return new set of required capabilities.
+     * @see #setFontFamilyCapabilityFilter(Set)
+     */
+    public Set<FontFamilyCapability> getFontFamilyCapabilityFilter() {
+        return EnumSet.copyOf(fontFamilyCapabilityFilter);
+    }
+
+    // Returns whether font family capabilities are known, starts indexing otherwise.
+    private boolean isFontFamilyMetadataIndexed() {
+        final FontFamilyCatalog catalog = FontFamilyCatalog.getInstance();
+        if (catalog.isMetadataIndexed()) {
+            return true;
+        }
+        if (!indexingFontFamilyMetadata) {
+            indexingFontFamilyMetadata = true;
+            new SwingWorker<Void, Void>() {
+                @Override
+                protected Void doInBackground() {
+                    catalog.indexMetadata();
+                    return null;
+                }
+
+                @Override
+                protected void done() {
+                    indexingFontFamilyMetadata = false;
+                    if (catalog.isMetadataIndexed() && !fontFamilyCapabilityFilter.isEmpty()) {
+                        installFontFamilyFilter();
+                    }
+                }
+            }.execute();
+        }
+        return false;
+    }
+
+    /**
+     * Sets whether each font family in the font family list is drawn
+     * in its own font. Family names are rendered in background, and shown
+     * as plain text until rendered.
+     *
+     * @param enabled {@code true} to draw families in their own fonts.
+     * @see FontFamilyListCellRenderer
+     */
+    public void setFontFamilyPreviewEnabled(boolean enabled) {
+        final JList<String> list = getFontFamilyList();
+        if (enabled == list.getCellRenderer() instanceof FontFamilyListCellRenderer) {
+            return;
+        }
+        list.setCellRenderer(enabled
+            ? new FontFamilyListCellRenderer() : new DefaultListCellRenderer());
+        updateFontFamilyCellSize(list);
+    }
+
+    /**
+     * Returns whether each font family in the font family list is drawn
+     * in its own font.
+     *
+     * @return {@code true} if families are drawn in their own fonts.
+     * @see #setFontFamilyPreviewEnabled(boolean)
+     */
+    public boolean isFontFamilyPreviewEnabled() {
+        return getFontFamilyList().getCellRenderer() instanceof FontFamilyListCellRenderer;
+    }
+
+    private void installFontFamilyFilter() {
+        final JList<String> list = getFontFamilyList();
+        final String selectedFamily = getSelectedFontFamily();
+        final boolean filterByCapabilities = !fontFamilyCapabilityFilter.isEmpty()
+            && isFontFamilyMetadataIndexed();
+        final ListModel<String> model;
+        if (fontFamilyFilterMode == FontFamilyFilterMode.NONE && !filterByCapabilities) {
+            fontFamilyFilterModel = null;
+            model = getFontFamilyModel();
+        } else {
+            fontFamilyFilterModel = new FontFamilyFilterModel(getFontFamilyModel(),
+                fontFamilyFilterMode, filterByCapabilities ? FontFamilyCatalog.getInstance() : null,
+                fontFamilyCapabilityFilter);
+            model = fontFamilyFilterModel;
+        }
+        hiddenSelectedFontFamily = -1;
+        filteringFontFamilies = true;
+        try {
+            list.setModel(model);
+            if (selectedFamily != null) {
+                final int index = indexOfFontFamily(model, selectedFamily);
+                if (index >= 0) {
+                    list.setSelectedIndex(index);
+                } else if (fontFamilyFilterModel != null) {
+                    // Keep selection of the family hidden by capability filter.
+                    hiddenSelectedFontFamily = fontFamilyFilterModel.findFamilyIndex(selectedFamily);
+                }
+            }
+        } finally {
+            filteringFontFamilies = false;
+        }
+    }
+
+    // Returns list index of the family equal to the text, or -1.
+    private int filterFontFamilies(FontFamilyFilterModel model, CharSequence text) {
+        final JList<String> list = getFontFamilyList();
+        final int selectedIndex = list.getSelectedIndex();
+        final int selectedFamily = selectedIndex >= 0
+                ? model.getFamilyIndex(selectedIndex) : hiddenSelectedFontFamily;
+        final int exactMatch = model.setFilterText(text);
+        final int index = selectedFamily >= 0 ? model.indexOfFamilyIndex(selectedFamily) : -1;
+        filteringFontFamilies = true;
+        try {
+            if (index >= 0) {
+                list.setSelectedIndex(index);
+                hiddenSelectedFontFamily = -1;
+            } else {
+                list.clearSelection();
+                hiddenSelectedFontFamily = selectedFamily;
+            }
+        } finally {
+            filteringFontFamilies = false;
+        }
+        if (exactMatch >= 0) {
+            list.ensureIndexIsVisible(exactMatch);
+        } else if (model.getSize() > 0) {
+            list.ensureIndexIsVisible(Math.max(index, 0));
+        }
+        return exactMatch;
+    }
+
+    /**
+     * Returns whether font families are still being loaded in background.
+     *
+     * @return {@code true} if font family list is not complete yet.
+     * @see #JFontChooser(Font, String[], boolean)
+     */
+    public boolean isLoadingFontFamilies() {
+        return fontFamilyLoader != null;
     }
 
     /**
@@ -380,7 +934,7 @@ public class JFontChooser extends JComponent
                 break;
             }
         }
-        updateSampleFont();
+        requestSampleFontUpdate();
     }
 
     /**
@@ -390,15 +944,32 @@ public class JFontChooser extends JComponent
      * @see #getSelectedFontSize
      */
     public void setSelectedFontSize(int size) {
-        String sizeString = String.valueOf(size);
-        for (int i = 0; i < this.fontSizeStrings.length; i++) {
-            if (this.fontSizeStrings[i].equals(sizeString)) {
-                getFontSizeList().setSelectedIndex(i);
-                break;
+        setSelectedFontSize((float) size);
+    }
+
+    /**
+     * Set the size of the selected font, which may be fractional.
+     * Sizes, which are not positive, are ignored.
+     * @param size the size of the selected font
+     *
+     * @see #getSelectedFontSize2D
+     */
+    public void setSelectedFontSize(float size) {
+        if (!(size > 0 && size < Float.POSITIVE_INFINITY)) {
+            return;
+        }
+        final int index = fontSizeModel.indexOf(size);
+        if (index >= 0) {
+            getFontSizeList().setSelectedIndex(index);
+        } else {
+            final int nearest = fontSizeModel.indexOfNearest(size);
+            if (nearest >= 0) {
+                getFontSizeList().ensureIndexIsVisible(nearest);
             }
         }
-        getFontSizeTextField().setText(sizeString);
-        updateSampleFont();
+        getFontSizeTextField().setText(FontSizeListModel.format(size));
+        selectedFontSize = size;
+        requestSampleFontUpdate();
     }
 
     /**
@@ -409,9 +980,99 @@ public class JFontChooser extends JComponent
      * @see java.awt.Font
      */
     public void setSelectedFont(Font font) {
-        setSelectedFontFamily(font.getFamily());
-        setSelectedFontStyle(font.getStyle());
-        setSelectedFontSize(font.getSize());
+        beginUpdate();
+        try {
+            setSelectedFontFamily(font.getFamily());
+            setSelectedFontStyle(font.getStyle());
+            setSelectedFontSize(font.getSize2D());
+        } finally {
+            endUpdate();
+        }
+    }
+
+    /**
+     * Starts a selection update. Until the matching {@link #endUpdate()},
+     * changes of the selected font family, style and size are collected,
+     * and then applied to the text fields and the sample at once, with
+     * a single {@link ChangeEvent} sent to the change listeners.
+     * Updates may be nested.
+     *
+     * @see #endUpdate()
+     * @see #addChangeListener(ChangeListener)
+     */
+    public void beginUpdate() {
+        updateLevel++;
+    }
+
+    /**
+     * Ends a selection update started by {@link #beginUpdate()}.
+     * When the outermost update ends, the collected changes are applied.
+     *
+     * @see #beginUpdate()
+     */
+    public void endUpdate() {
+        if (updateLevel <= 0) {
+            throw new IllegalStateException("endUpdate() without beginUpdate()");
+        }
+        if (--updateLevel == 0) {
+            for (int i = 0; i < pendingTextUpdates.size(); i++) {
+                pendingTextUpdates.get(i).updateText();
+            }
+            pendingTextUpdates.clear();
+            updateCoalescer.flush();
+        }
+    }
+
+    /**
+     * Returns whether a selection update is in progress.
+     *
+     * @return {@code true} if inside {@link #beginUpdate()}
+     *         and {@link #endUpdate()}.
+     */
+    public boolean isUpdating() {
+        return updateLevel > 0;
+    }
+
+    /**
+     * Adds a listener, which is notified when the selected font changes.
+     *
+     * @param listener change listener.
+     */
+    public void addChangeListener(ChangeListener listener) {
+        listenerList.add(ChangeListener.class, listener);
+    }
+
+    /**
+     * Removes a change listener.
+     *
+     * @param listener change listener.
+     */
+    public void removeChangeListener(ChangeListener listener) {
+        listenerList.remove(ChangeListener.class, listener);
+    }
+
+    /**
+     * Returns all change listeners added to this font chooser.
+     *
+     * @return array of change listeners.
+     */
+    public ChangeListener[] getChangeListeners() {
+        return listenerList.getListeners(ChangeListener.class);
+    }
+
+    /**
+     * Notifies change listeners that the selected font has changed.
+     */
+    protected void fireStateChanged() {
+        final Object[] listeners = listenerList.getListenerList();
+        for (int i = listeners.length - 2; i >= 0; i -= 2) {
+            if (listeners[i] == ChangeListener.class) {
+                if (changeEvent == null) {
+                    changeEvent = new ChangeEvent(this);
+                }
+                ((ChangeListener) listeners[i + 1]).stateChanged(changeEvent);
+            }
+        }
     }
 
     protected JTextField getFontFamilyTextField() {
@@ -450,26 +1111,42 @@ public class JFontChooser extends JComponent
                 new TextFieldKeyHandlerForListSelectionUpDown(getFontSizeList()));
             fontSizeTextField.getDocument().addDocumentListener(
                 new ListSearchTextFieldDocumentHandler(getFontSizeList()));
+            fontSizeTextField.getDocument().addDocumentListener(new FontSizeTextHandler());
         }
         return fontSizeTextField;
     }
 
     protected JList<String> getFontFamilyList() {
         if (fontNameList == null) {
-            fontNameList = new JList<String>(getFontFamilies());
+            if (loadFontFamiliesAsynchronously && FontFamilyCatalog.peekInstance() == null) {
+                fontFamilyLoader = new FontFamilyLoader();
+                fontNameList = new JList<String>(fontFamilyLoader.getModel());
+            } else {
+                fontNameList = new JList<String>(getFontFamilyModel());
+                updateFontFamilyCellSize(fontNameList);
+            }
             fontNameList.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
             fontNameList.addListSelectionListener(
                 new ListSelectionHandler(getFontFamilyTextField()));
             fontNameList.setSelectedIndex(0);
             //fontNameList.setFont(DEFAULT_FONT);
             fontNameList.setFocusable(false);
+            if (fontFamilyLoader != null) {
+                fontFamilyLoader.execute();
+            }
         }
         return fontNameList;
     }
 
     protected JList<String> getFontStyleList() {
         if (fontStyleList == null) {
-            fontStyleList = new JList<String>(getFontStyleNames());
+            final String[] names = getFontStyleNames();
+            final SharedListModel shared = SharedListModel.forFontStyles(getLocale());
+            final SharedListModel model = Arrays.equals(names, shared.getElements())
+                ? shared : new SharedListModel(names.clone());
+            fontStyleList = new JList<String>(model);
+            fontStyleList.setPrototypeCellValue(model.getPrototypeCellValue(
+                fontStyleList.getFontMetrics(fontStyleList.getFont())));
             fontStyleList.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
             fontStyleList.addListSelectionListener(
                 new ListSelectionHandler(getFontStyleTextField()));
@@ -482,7 +1159,9 @@ public class JFontChooser extends JComponent
 
     protected JList<String> getFontSizeList() {
         if (fontSizeList == null) {
-            fontSizeList = new JList<String>(this.fontSizeStrings);
+            fontSizeList = new JList<String>(fontSizeModel);
+            fontSizeList.setPrototypeCellValue(fontSizeModel.getPrototypeCellValue(
+                fontSizeList.getFontMetrics(fontSizeList.getFont())));
             fontSizeList.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
             fontSizeList.addListSelectionListener(
                 new ListSelectionHandler(getFontSizeTextField()));
@@ -495,6 +1174,7 @@ public class JFontChooser extends JComponent
 
     protected class ListSelectionHandler implements ListSelectionListener {
         private JTextComponent textComponent;
+        private JList<String> pendingList;
 
         ListSelectionHandler(JTextComponent textComponent) {
             this.textComponent = textComponent;
@@ -504,16 +1184,102 @@ public class JFontChooser extends JComponent
         public void valueChanged(ListSelectionEvent e) {
             if (e.getValueIsAdjusting() == false) {
                 final JList<String> list = (JList<String>) e.getSource();
-                final String selectedValue = (String) list.getSelectedValue();
-                final String oldValue = textComponent.getText();
-                textComponent.setText(selectedValue);
-                if (!oldValue.equalsIgnoreCase(selectedValue))
-                {
-                    textComponent.selectAll();
-                    textComponent.requestFocus();
+                if (filteringFontFamilies) {
+                    // Selection just follows the filtered list contents.
+                    requestSampleFontUpdate();
+                    return;
+                }
+                if (updateLevel > 0) {
+                    // Text is updated once, when selection update ends.
+                    if (pendingList == null) {
+                        pendingList = list;
+                        pendingTextUpdates.add(this);
+                    }
+                    requestSampleFontUpdate();
+                    return;
+                }
+                updateText(list);
+            }
+        }
+
+        void updateText() {
+            final JList<String> list = pendingList;
+            pendingList = null;
+            updateText(list);
+        }
+
+        private void updateText(JList<String> list) {
+            final String selectedValue = (String) list.getSelectedValue();
+            final String oldValue = textComponent.getText();
+            if (oldValue.equals(selectedValue)) {
+                updateCoalescer.textUpdateSkipped();
+            } else {
+                // Text field is updated to reflect the list, not vice versa,
+                // so the resulting document events are not searched for.
+                updatingTextFromList = true;
+                try {
+                    textComponent.setText(selectedValue);
+                } finally {
+                    updatingTextFromList = false;
                 }
+            }
+            if (!oldValue.equalsIgnoreCase(selectedValue))
+            {
+                textComponent.selectAll();
+                textComponent.requestFocus();
+            }
+            final int selectedIndex = list.getSelectedIndex();
+            if (selectedIndex >= 0) {
+                list.ensureIndexIsVisible(selectedIndex);
+            }
 
-                updateSampleFont();
+            requestSampleFontUpdate();
+        }
+    }
+
+    /**
+     * Keeps the selected font size in sync with the font size text field,
+     * so that the text is parsed once per change rather than on every
+     * preview update. Text, which is not a valid size, selects the size
+     * selected in the list, and is replaced with it when the size is read.
+     */
+    private class FontSizeTextHandler implements DocumentListener {
+        private final Segment text = new Segment();
+
+        @Override
+        public void insertUpdate(DocumentEvent e) {
+            update(e);
+        }
+
+        @Override
+        public void removeUpdate(DocumentEvent e) {
+            update(e);
+        }
+
+        @Override
+        public void changedUpdate(DocumentEvent e) {
+            update(e);
+        }
+
+        private void update(DocumentEvent event) {
+            final int index = getFontSizeList().getSelectedIndex();
+            float size = Float.NaN;
+            if (!updatingTextFromList) {
+                try {
+                    final Document doc = event.getDocument();
+                    doc.getText(0, doc.getLength(), text);
+                    size = FontSizeListModel.parse(text);
+                } catch (BadLocationException e) {
+                    e.printStackTrace();
+                }
+            }
+            fontSizeTextValid = updatingTextFromList || !Float.isNaN(size);
+            if (Float.isNaN(size) && index >= 0) {
+                // Text comes from the list, or it's not a valid size.
+                size = fontSizeModel.getFontSize(index);
+            }
+            if (!Float.isNaN(size)) {
+                selectedFontSize = size;
             }
         }
     }
@@ -531,7 +1297,7 @@ public class JFontChooser extends JComponent
 
         public void focusLost(FocusEvent e) {
             textComponent.select(0, 0);
-            updateSampleFont();
+            requestSampleFontUpdate();
         }
     }
 
@@ -569,9 +1335,14 @@ public class JFontChooser extends JComponent
 
     protected class ListSearchTextFieldDocumentHandler implements DocumentListener {
         JList<String> targetList;
+        private final Segment text = new Segment();
+        private ListSearchIndex.Cursor searchCursor;
 
         public ListSearchTextFieldDocumentHandler(JList<String> targetList) {
             this.targetList = targetList;
+            final SearchIndexInvalidator invalidator = new SearchIndexInvalidator();
+            targetList.getModel().addListDataListener(invalidator);
+            targetList.addPropertyChangeListener("model", invalidator);
         }
 
         public void insertUpdate(DocumentEvent e) {
@@ -587,39 +1358,281 @@ public class JFontChooser extends JComponent
         }
 
         private void update(DocumentEvent event) {
-            String newValue = "";
+            if (updatingTextFromList) {
+                updateCoalescer.textEventSuppressed();
+                return;
+            }
             try {
-                Document doc = event.getDocument();
-                newValue = doc.getText(0, doc.getLength());
+                final Document doc = event.getDocument();
+                doc.getText(0, doc.getLength(), text);
             } catch (BadLocationException e) {
                 e.printStackTrace();
+                return;
             }
 
-            if (newValue.length() > 0) {
-                int index = targetList.getNextMatch(newValue, 0, Position.Bias.Forward);
+            final Object searchEvent = FlightRecorderEvents.beginListSearch();
+            final ListModel<String> model = targetList.getModel();
+            if (model instanceof FontFamilyFilterModel
+                    && fontFamilyFilterMode != FontFamilyFilterMode.NONE) {
+                final int index = filterFontFamilies((FontFamilyFilterModel) model, text);
+                FlightRecorderEvents.endListSearch(searchEvent, text.length(), model.getSize(),
+                    index, true);
+                if (index >= 0 && index != targetList.getSelectedIndex()) {
+                    updateCoalescer.requestSelection(new ListSelector(index, model.getElementAt(index)));
+                }
+                return;
+            }
+
+            if (text.length() > 0) {
+                final ListSearchIndex.Cursor cursor = getSearchCursor();
+                final int index;
+                final boolean exactMatch;
+                if (cursor != null) {
+                    index = cursor.find(text);
+                    exactMatch = cursor.isExactMatch();
+                } else {
+                    final String s = text.toString();
+                    index = targetList.getNextMatch(s, 0, Position.Bias.Forward);
+                    exactMatch = index >= 0 && model.getElementAt(index).equalsIgnoreCase(s);
+                }
+                FlightRecorderEvents.endListSearch(searchEvent, text.length(), model.getSize(),
+                    index, false);
                 if (index < 0) {
-                    index = 0;
+                    if (targetList.getModel().getSize() > 0) {
+                        targetList.ensureIndexIsVisible(0);
+                    }
+                    return;
                 }
                 targetList.ensureIndexIsVisible(index);
 
-                final String matchedName = targetList.getModel().getElementAt(index).toString();
-                if (newValue.equalsIgnoreCase(matchedName)) {
+                if (exactMatch) {
                     if (index != targetList.getSelectedIndex()) {
-                        SwingUtilities.invokeLater(new ListSelector(index));
+                        final String matchedName = targetList.getModel().getElementAt(index);
+                        updateCoalescer.requestSelection(new ListSelector(index, matchedName));
+                    }
+                }
+            }
+        }
+
+        // Returns null while prewarm() is building the index of a shared model,
+        // so that the index is not built once more on the event dispatch thread.
+        private ListSearchIndex.Cursor getSearchCursor() {
+            if (searchCursor == null) {
+                final ListModel<String> model = targetList.getModel();
+                if (model instanceof SharedListModel && isPrewarming()) {
+                    final ListSearchIndex index = ((SharedListModel) model).peekSearchIndex();
+                    if (index == null) {
+                        return null;
                     }
+                    searchCursor = index.newCursor();
+                } else {
+                    searchCursor = createSearchIndex(model).newCursor();
+                }
+            }
+            return searchCursor;
+        }
+
+        /**
+         * Drops the search index whenever the list contents change.
+         */
+        private class SearchIndexInvalidator implements ListDataListener, PropertyChangeListener {
+            @Override
+            public void intervalAdded(ListDataEvent e) {
+                searchCursor = null;
+            }
+
+            @Override
+            public void intervalRemoved(ListDataEvent e) {
+                searchCursor = null;
+            }
+
+            @Override
+            public void contentsChanged(ListDataEvent e) {
+                searchCursor = null;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public void propertyChange(PropertyChangeEvent e) {
+                if (e.getOldValue() != null) {
+                    ((ListModel<String>) e.getOldValue()).removeListDataListener(this);
                 }
+                if (e.getNewValue() != null) {
+                    ((ListModel<String>) e.getNewValue()).addListDataListener(this);
+                }
+                searchCursor = null;
             }
         }
 
         public class ListSelector implements Runnable {
             private int index;
+            private String value;
 
             public ListSelector(int index) {
+                this(index, null);
+            }
+
+            public ListSelector(int index, String value) {
                 this.index = index;
+                this.value = value;
+            }
+
+            JList<String> getTargetList() {
+                return targetList;
             }
 
             public void run() {
-                targetList.setSelectedIndex(this.index);
+                // The list model may have changed since this selector was posted.
+                final ListModel<String> model = targetList.getModel();
+                if (value == null || (index < model.getSize()
+                        && value.equals(model.getElementAt(index)))) {
+                    targetList.setSelectedIndex(this.index);
+                }
+            }
+        }
+    }
+
+    /**
+     * Background task, which fills the font family list in batches.
+     */
+    private final class FontFamilyLoader extends SwingWorker<Void, String[]> {
+        private static final int BATCH_SIZE = 256;
+
+        private final FontFamilyListModel model = new FontFamilyListModel();
+        private volatile FontFamilyCatalog catalog;
+
+        FontFamilyListModel getModel() {
+            return model;
+        }
+
+        void setPendingFontFamily(String name) {
+            model.setPlaceholder(name);
+            getFontFamilyList().setSelectedIndex(0);
+        }
+
+        @Override
+        protected Void doInBackground() {
+            catalog = FontFamilyCatalog.getInstance();
+            final String[] names = catalog.toArray();
+            for (int i = 0; i < names.length; i += BATCH_SIZE) {
+                publish(Arrays.copyOfRange(names, i, Math.min(i + BATCH_SIZE, names.length)));
+            }
+            return null;
+        }
+
+        @Override
+        protected void process(List<String[]> batches) {
+            model.setNameIndex(catalog.getNameIndex());
+            for (String[] batch : batches) {
+                model.addAll(batch);
+                final String placeholder = model.getPlaceholder();
+                if (placeholder != null) {
+                    final int index = model.indexOfLoaded(placeholder);
+                    if (index >= model.getSize() - batch.length) {
+                        replacePlaceholder(index);
+                    }
+                }
+            }
+        }
+
+        @Override
+        protected void done() {
+            if (model.getPlaceholder() != null) {
+                replacePlaceholder(model.getSize() > 1 ? 1 : -1);
+            }
+            fontFamilyLoader = null;
+            // Replace the loaded copy with the shared model.
+            installFontFamilyFilter();
+            updateFontFamilyCellSize(getFontFamilyList());
+        }
+
+        private void replacePlaceholder(int index) {
+            final JList<String> list = getFontFamilyList();
+            final boolean placeholderSelected = list.getSelectedIndex() == 0;
+            if (placeholderSelected && index > 0) {
+                list.setSelectedIndex(index);
+            }
+            model.removePlaceholder();
+            if (placeholderSelected && index > 0) {
+                list.ensureIndexIsVisible(list.getSelectedIndex());
+            }
+        }
+    }
+
+    /**
+     * Font family list model, which is filled progressively and may hold
+     * a placeholder entry at the top until the actual entry arrives.
+     */
+    private static final class FontFamilyListModel extends AbstractListModel<String> {
+        private static final long serialVersionUID = 1L;
+
+        private final List<String> names = new ArrayList<String>();
+        private String placeholder;
+        private CaseInsensitiveStringIndex nameIndex;
+
+        @Override
+        public int getSize() {
+            return placeholder != null ? names.size() + 1 : names.size();
+        }
+
+        @Override
+        public String getElementAt(int index) {
+            if (placeholder != null) {
+                return index == 0 ? placeholder : names.get(index - 1);
+            }
+            return names.get(index);
+        }
+
+        String getPlaceholder() {
+            return placeholder;
+        }
+
+        void setNameIndex(CaseInsensitiveStringIndex nameIndex) {
+            this.nameIndex = nameIndex;
+        }
+
+        // Returns list index of the family, ignoring case, or -1.
+        int indexOf(String name) {
+            if (placeholder != null && placeholder.equalsIgnoreCase(name)) {
+                return 0;
+            }
+            return indexOfLoaded(name);
+        }
+
+        // Same as indexOf(), but ignores the placeholder.
+        int indexOfLoaded(String name) {
+            if (nameIndex == null) {
+                return -1;
+            }
+            final int index = nameIndex.indexOf(name);
+            if (index < 0 || index >= names.size()) {
+                return -1;
+            }
+            return placeholder != null ? index + 1 : index;
+        }
+
+        void setPlaceholder(String name) {
+            if (placeholder == null) {
+                placeholder = name;
+                fireIntervalAdded(this, 0, 0);
+            } else {
+                placeholder = name;
+                fireContentsChanged(this, 0, 0);
+            }
+        }
+
+        void removePlaceholder() {
+            if (placeholder != null) {
+                placeholder = null;
+                fireIntervalRemoved(this, 0, 0);
+            }
+        }
+
+        void addAll(String[] batch) {
+            if (batch.length > 0) {
+                final int start = getSize();
+                names.addAll(Arrays.asList(batch));
+                fireIntervalAdded(this, start, start + batch.length - 1);
             }
         }
     }
@@ -633,7 +1646,8 @@ public class JFontChooser extends JComponent
             this.dialog = dialog;
             putValue(Action.DEFAULT, ACTION_NAME);
             putValue(Action.ACTION_COMMAND_KEY, ACTION_NAME);
-            putValue(Action.NAME, getLocalizedMessage("JFontChooser.okText"));
+            putValue(Action.NAME, FontChooserMessages.forLocale(getLocale())
+                .get("JFontChooser.okText", "ColorChooser.okText"));
         }
 
         public void actionPerformed(ActionEvent e) {
@@ -651,7 +1665,8 @@ public class JFontChooser extends JComponent
             this.dialog = dialog;
             putValue(Action.DEFAULT, ACTION_NAME);
             putValue(Action.ACTION_COMMAND_KEY, ACTION_NAME);
-            putValue(Action.NAME, getLocalizedMessage("JFontChooser.cancelText"));
+            putValue(Action.NAME, FontChooserMessages.forLocale(getLocale())
+                .get("JFontChooser.cancelText", "ColorChooser.cancelText"));
         }
 
         public void actionPerformed(ActionEvent e) {
@@ -660,8 +1675,233 @@ public class JFontChooser extends JComponent
         }
     }
 
+    /**
+     * Returns counters of the selection and sample font updates, which
+     * show how many redundant updates were coalesced or suppressed.
+     *
+     * @return update statistics snapshot.
+     */
+    public UpdateStatistics getUpdateStatistics() {
+        return updateCoalescer.getStatistics();
+    }
+
+    private void requestSampleFontUpdate() {
+        updateCoalescer.requestSampleFontUpdate();
+    }
+
+    /**
+     * Collapses bursts of list selection requests from text fields and
+     * sample font update requests into a single resolved selection
+     * and a single sample font update per event dispatch cycle.
+     */
+    private final class SelectionUpdateCoalescer implements Runnable {
+        private final List<ListSearchTextFieldDocumentHandler.ListSelector> pendingSelections =
+                new ArrayList<>(3);
+        private boolean sampleFontUpdatePending;
+        private boolean scheduled;
+        private boolean flushing;
+        private long selectionRequests;
+        private long selectionUpdates;
+        private long sampleFontUpdateRequests;
+        private long sampleFontUpdates;
+        private long suppressedTextEvents;
+
+        void requestSelection(ListSearchTextFieldDocumentHandler.ListSelector selector) {
+            selectionRequests++;
+            for (int i = 0; i < pendingSelections.size(); i++) {
+                if (pendingSelections.get(i).getTargetList() == selector.getTargetList()) {
+                    pendingSelections.set(i, selector);
+                    return;
+                }
+            }
+            pendingSelections.add(selector);
+            schedule();
+        }
+
+        void requestSampleFontUpdate() {
+            sampleFontUpdateRequests++;
+            sampleFontUpdatePending = true;
+            schedule();
+        }
+
+        void textEventSuppressed() {
+            suppressedTextEvents++;
+        }
+
+        void textUpdateSkipped() {
+            suppressedTextEvents++;
+        }
+
+        void flush() {
+            if (!flushing && (!pendingSelections.isEmpty() || sampleFontUpdatePending)) {
+                run();
+            }
+        }
+
+        private void schedule() {
+            if (!scheduled && !flushing && updateLevel == 0) {
+                scheduled = true;
+                SwingUtilities.invokeLater(this);
+            }
+        }
+
+        @Override
+        public void run() {
+            scheduled = false;
+            flushing = true;
+            try {
+                // Applying selections requests sample font update,
+                // which is then done once below.
+                for (int i = 0; i < pendingSelections.size(); i++) {
+                    pendingSelections.get(i).run();
+                    selectionUpdates++;
+                }
+                pendingSelections.clear();
+                if (sampleFontUpdatePending) {
+                    sampleFontUpdatePending = false;
+                    sampleFontUpdates++;
+                    updateSampleFont();
+                    final Font font = getSelectedFont();
+                    if (!font.equals(notifiedFont)) {
+                        notifiedFont = font;
+                        fireStateChanged();
+                    }
+                }
+            } finally {
+                flushing = false;
+            }
+            if (!pendingSelections.isEmpty() || sampleFontUpdatePending) {
+                schedule();
+            }
+        }
+
+        UpdateStatistics getStatistics() {
+            return new UpdateStatistics(selectionRequests, selectionUpdates,
+                    sampleFontUpdateRequests, sampleFontUpdates, suppressedTextEvents);
+        }
+    }
+
+    /**
+     * Snapshot of the {@code JFontChooser} update counters.
+     *
+     * @see JFontChooser#getUpdateStatistics()
+     */
+    public static final class UpdateStatistics {
+        private final long selectionRequests;
+        private final long selectionUpdates;
+        private final long sampleFontUpdateRequests;
+        private final long sampleFontUpdates;
+        private final long suppressedTextEvents;
+
+        UpdateStatistics(long selectionRequests, long selectionUpdates,
+                long sampleFontUpdateRequests, long sampleFontUpdates,
+                long suppressedTextEvents) {
+            this.selectionRequests = selectionRequests;
+            this.selectionUpdates = selectionUpdates;
+            this.sampleFontUpdateRequests = sampleFontUpdateRequests;
+            this.sampleFontUpdates = sampleFontUpdates;
+            this.suppressedTextEvents = suppressedTextEvents;
+        }
+
+        /**
+         * Returns number of list selections requested by typing
+         * in the text fields.
+         *
+         * @return number of selection requests.
+         */
+        public long getSelectionRequests() {
+            return selectionRequests;
+        }
+
+        /**
+         * Returns number of list selections actually applied.
+         *
+         * @return number of selection updates.
+         */
+        public long getSelectionUpdates() {
+            return selectionUpdates;
+        }
+
+        /**
+         * Returns number of requested sample font updates.
+         *
+         * @return number of sample font update requests.
+         */
+        public long getSampleFontUpdateRequests() {
+            return sampleFontUpdateRequests;
+        }
+
+        /**
+         * Returns number of sample font updates actually done.
+         *
+         * @return number of sample font updates.
+         */
+        public long getSampleFontUpdates() {
+            return sampleFontUpdates;
+        }
+
+        /**
+         * Returns number of text field updates and document events skipped,
+         * because they only echoed a list selection back to the text field.
+         *
+         * @return number of suppressed text events.
+         */
+        public long getSuppressedTextEvents() {
+            return suppressedTextEvents;
+        }
+
+        /**
+         * Returns total number of redundant updates avoided.
+         *
+         * @return number of avoided updates.
+         */
+        public long getAvoidedUpdates() {
+            return (selectionRequests - selectionUpdates)
+                    + (sampleFontUpdateRequests - sampleFontUpdates)
+                    + suppressedTextEvents;
+        }
+
+        @Override
+        public String toString() {
+            return getClass().getSimpleName() + "[selectionRequests=" + selectionRequests
+                    + ",selectionUpdates=" + selectionUpdates
+                    + ",sampleFontUpdateRequests=" + sampleFontUpdateRequests
+                    + ",sampleFontUpdates=" + sampleFontUpdates
+                    + ",suppressedTextEvents=" + suppressedTextEvents + "]";
+        }
+    }
+
     protected void updateSampleFont() {
-        getSampleTextField().setFont(getSelectedFont());
+        final Font font = getSelectedFont();
+        final FontPreviewPane previewPane = getSamplePreviewPane();
+        // Setting an equal font would still re-layout the sample text.
+        if (!font.equals(previewPane.getFont())) {
+            previewPane.setFont(font);
+        }
+        if (sampleText != null && !font.equals(sampleText.getFont())) {
+            sampleText.setFont(font);
+        }
+    }
+
+    /**
+     * Sets the sample text shown in the selected font.
+     * Text may contain several paragraphs separated by line feeds.
+     *
+     * @param text sample text.
+     * @see #getSampleText()
+     */
+    public void setSampleText(String text) {
+        getSamplePreviewPane().setSampleText(text);
+    }
+
+    /**
+     * Returns the sample text shown in the selected font.
+     *
+     * @return sample text.
+     * @see #setSampleText(String)
+     */
+    public String getSampleText() {
+        return getSamplePreviewPane().getSampleText();
     }
 
     protected JPanel getFontFamilyPanel() {
@@ -681,6 +1921,7 @@ public class JFontChooser extends JComponent
             p.add(scrollPane, BorderLayout.CENTER);
 
             final JLabel label = new JLabel(getLocalizedMessage("JFontChooser.fontNameText"));
+            fontFamilyLabel = label;
             label.setHorizontalAlignment(JLabel.LEFT);
             label.setHorizontalTextPosition(JLabel.LEFT);
             label.setLabelFor(getFontFamilyTextField());
@@ -709,6 +1950,7 @@ public class JFontChooser extends JComponent
             p.add(scrollPane, BorderLayout.CENTER);
 
             final JLabel label = new JLabel(getLocalizedMessage("JFontChooser.fontStyleText"));
+            fontStyleLabel = label;
             label.setHorizontalAlignment(JLabel.LEFT);
             label.setHorizontalTextPosition(JLabel.LEFT);
             label.setLabelFor(getFontStyleTextField());
@@ -737,6 +1979,7 @@ public class JFontChooser extends JComponent
             p.add(scrollPane, BorderLayout.CENTER);
 
             final JLabel label = new JLabel(getLocalizedMessage("JFontChooser.fontSizeText"));
+            fontSizeLabel = label;
             label.setHorizontalAlignment(JLabel.LEFT);
             label.setHorizontalTextPosition(JLabel.LEFT);
             label.setLabelFor(getFontSizeTextField());
@@ -750,19 +1993,41 @@ public class JFontChooser extends JComponent
 
     protected JPanel getSamplePanel() {
         if (samplePanel == null) {
-            final Border titledBorder = BorderFactory.createTitledBorder(
+            sampleBorder = BorderFactory.createTitledBorder(
                 BorderFactory.createEtchedBorder(), getLocalizedMessage("JFontChooser.sampleText"));
             final Border empty = BorderFactory.createEmptyBorder(5, 10, 10, 10);
-            final Border border = BorderFactory.createCompoundBorder(titledBorder, empty);
+            final Border border = BorderFactory.createCompoundBorder(sampleBorder, empty);
 
             samplePanel = new JPanel();
             samplePanel.setLayout(new BorderLayout());
             samplePanel.setBorder(border);
-            samplePanel.add(getSampleTextField(), BorderLayout.CENTER);
+            samplePanel.add(getSamplePreviewPane(), BorderLayout.CENTER);
         }
         return samplePanel;
     }
 
+    protected FontPreviewPane getSamplePreviewPane() {
+        if (samplePreviewPane == null) {
+            samplePreviewPane = new FontPreviewPane(getLocalizedMessage("JFontChooser.sampleStringText"));
+            samplePreviewPane.setBorder(BorderFactory.createCompoundBorder(
+                BorderFactory.createLoweredBevelBorder(), BorderFactory.createEmptyBorder(2, 2, 2, 2)));
+            samplePreviewPane.setPreferredSize(new Dimension(300, 100));
+        }
+        return samplePreviewPane;
+    }
+
+    /**
+     * Returns the single-line sample text field. The text field still
+     * follows the selected font once created.
+     *
+     * @return sample text field.
+     * @deprecated The text field is no longer displayed, the sample panel
+     *             shows {@link #getSamplePreviewPane()} instead, so changes
+     *             made to the text field are not visible. Customize
+     *             the preview pane, or set the sample text with
+     *             {@link #setSampleText(String)}.
+     */
+    @Deprecated
     protected JTextField getSampleTextField() {
         if (sampleText == null) {
             final Border lowered = BorderFactory.createLoweredBevelBorder();
@@ -776,35 +2041,87 @@ public class JFontChooser extends JComponent
 
     protected String[] getFontFamilies() {
         if (fontFamilyNames == null) {
-            final GraphicsEnvironment env = GraphicsEnvironment.getLocalGraphicsEnvironment();
-            fontFamilyNames = env.getAvailableFontFamilyNames();
+            fontFamilyNames = SharedListModel.forFontFamilies(
+                FontFamilyCatalog.getInstance()).getElements().clone();
         }
         return fontFamilyNames;
     }
 
     protected String[] getFontStyleNames() {
         if (fontStyleNames == null) {
-            int i = 0;
-            fontStyleNames = new String[4];
-            fontStyleNames[i++] = getLocalizedMessage("JFontChooser.plainText");
-            fontStyleNames[i++] = getLocalizedMessage("JFontChooser.boldText");
-            fontStyleNames[i++] = getLocalizedMessage("JFontChooser.italicText");
-            fontStyleNames[i++] = getLocalizedMessage("JFontChooser.boldItalicText");
+            fontStyleNames = SharedListModel.forFontStyles(getLocale()).getElements().clone();
         }
         return fontStyleNames;
     }
 
-    static String getLocalizedMessage(String key) {
-        if (!bundleRegistered) {
-            synchronized(bundleRegistrationLock) {
-                if (!bundleRegistered) {
-                    UIManager.getDefaults().addResourceBundle(
-                        JFontChooser.class.getCanonicalName());
-                    bundleRegistered = true;
-                }
+    static String[] createFontStyleNames(Locale locale) {
+        final FontChooserMessages messages = FontChooserMessages.forLocale(locale);
+        int i = 0;
+        final String[] names = new String[4];
+        names[i++] = messages.get("JFontChooser.plainText");
+        names[i++] = messages.get("JFontChooser.boldText");
+        names[i++] = messages.get("JFontChooser.italicText");
+        names[i++] = messages.get("JFontChooser.boldItalicText");
+        return names;
+    }
+
+    /**
+     * Returns message for the locale of this font chooser.
+     *
+     * @param key message key.
+     * @return message, or {@code null} if there's no such message.
+     */
+    protected String getLocalizedMessage(String key) {
+        return FontChooserMessages.forLocale(getLocale()).get(key);
+    }
+
+    @Override
+    public void setLocale(Locale locale) {
+        final Locale oldLocale = getLocale();
+        super.setLocale(locale);
+        if (!getLocale().equals(oldLocale)) {
+            updateLocalizedTexts(oldLocale);
+        }
+    }
+
+    // Replaces texts created for the old locale.
+    private void updateLocalizedTexts(Locale oldLocale) {
+        if (fontFamilyLabel != null) {
+            fontFamilyLabel.setText(getLocalizedMessage("JFontChooser.fontNameText"));
+        }
+        if (fontStyleLabel != null) {
+            fontStyleLabel.setText(getLocalizedMessage("JFontChooser.fontStyleText"));
+        }
+        if (fontSizeLabel != null) {
+            fontSizeLabel.setText(getLocalizedMessage("JFontChooser.fontSizeText"));
+        }
+        if (sampleBorder != null) {
+            sampleBorder.setTitle(getLocalizedMessage("JFontChooser.sampleText"));
+            samplePanel.repaint();
+        }
+        final FontChooserMessages oldMessages = FontChooserMessages.forLocale(oldLocale);
+        final String oldSampleText = oldMessages.get("JFontChooser.sampleStringText");
+        if (samplePreviewPane != null && samplePreviewPane.getSampleText().equals(oldSampleText)) {
+            samplePreviewPane.setSampleText(getLocalizedMessage("JFontChooser.sampleStringText"));
+        }
+        if (sampleText != null && sampleText.getText().equals(oldSampleText)) {
+            sampleText.setText(getLocalizedMessage("JFontChooser.sampleStringText"));
+        }
+        if (fontStyleList != null
+                && fontStyleList.getModel() == SharedListModel.forFontStyles(oldLocale)) {
+            final int style = getSelectedFontStyle();
+            final SharedListModel model = SharedListModel.forFontStyles(getLocale());
+            fontStyleNames = model.getElements().clone();
+            beginUpdate();
+            try {
+                fontStyleList.setModel(model);
+                fontStyleList.setPrototypeCellValue(model.getPrototypeCellValue(
+                    fontStyleList.getFontMetrics(fontStyleList.getFont())));
+                setSelectedFontStyle(style);
+            } finally {
+                endUpdate();
             }
         }
-        return UIManager.getDefaults().getString(key);
     }
 }
 
@@ -859,10 +2176,12 @@ class FontChooserDialog extends JDialog {
 
         this.chooserPane = chooserPane;
 
-        final Locale locale = getLocale();
-        final String okString = UIManager.getString("ColorChooser.okText", locale);
-        final String cancelString = UIManager.getString("ColorChooser.cancelText", locale);
-        final String resetString = UIManager.getString("ColorChooser.resetText", locale);
+        final FontChooserMessages messages = FontChooserMessages.forLocale(chooserPane.getLocale());
+        final String okString = messages.get("JFontChooser.okText", "ColorChooser.okText");
+        final String cancelString = messages.get("JFontChooser.cancelText",
+                "ColorChooser.cancelText");
+        final String resetString = messages.get("JFontChooser.resetText",
+                "ColorChooser.resetText");
 
         final Container contentPane = getContentPane();
         contentPane.setLayout(new BorderLayout());
@@ -920,7 +2239,7 @@ class FontChooserDialog extends JDialog {
         resetButton.addActionListener((ActionEvent e) -> {
             reset();
         });
-        final String mnemonicStr = UIManager.getString("JFontChooser.resetMnemonic", locale);
+        final String mnemonicStr = messages.get("JFontChooser.resetMnemonic");
         final int mnemonic = (mnemonicStr == null) ? -1 : Integer.parseInt(mnemonicStr);
         if (mnemonic != -1) {
             resetButton.setMnemonic(mnemonic);
@@ -962,35 +2281,3 @@ class FontChooserDialog extends JDialog {
         }
     }
 }
-
-class FontTracker implements ActionListener, Serializable {
-    private static final long serialVersionUID = 1L;
-    
-    JFontChooser chooser;
-    Font font;
-
-    public FontTracker(JFontChooser c) {
-        chooser = c;
-    }
-
-    public void actionPerformed(ActionEvent e) {
-        font = chooser.getFont();
-    }
-
-    public Font getFont() {
-        return font;
-    }
-}
-
-class JOptionPaneLocal extends JOptionPane {
-    private static final long serialVersionUID = 1L;
-
-	static Window getWindowForComponent1(Component parentComponent)
-            throws HeadlessException {
-        if (parentComponent == null)
-            return getRootFrame();
-        if (parentComponent instanceof Frame || parentComponent instanceof Dialog)
-            return (Window)parentComponent;
-        return getWindowForComponent1(parentComponent.getParent());
-    }
-}
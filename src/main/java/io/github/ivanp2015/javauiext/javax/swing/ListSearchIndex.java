@@ -0,0 +1,301 @@
+/*
+ * Java UI Extensions project.
+ * https://ivanp2015.github.io/javauiext
+ *
+ * Copyright (c) 2018, Ivan Pizhenko. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Ivan Pizhenko designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Ivan Pizhenko in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package io.github.ivanp2015.javauiext.javax.swing;
+
+import io.github.ivanp2015.javauiext.util.CaseInsensitiveStringIndex;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import javax.swing.ListModel;
+
+/**
+ * Case-insensitive prefix search index over the elements of a list model.
+ *
+ * Finds the same element as
+ * {@link javax.swing.JList#getNextMatch(String, int, javax.swing.text.Position.Bias)}
+ * with start index {@code 0} and forward bias does, but instead of scanning
+ * and converting every element, looks up a sorted array of case-folded keys.
+ * Lookups are done through a {@link Cursor}, which remembers matches for all
+ * prefixes of the previous query, so that typing or erasing a character
+ * narrows or widens the previous match range in logarithmic time,
+ * without allocating memory.
+ *
+ * Index is immutable and may be shared, cursors are not thread-safe.
+ * Index does not track changes of the list model it was created from.
+ *
+ * @author Ivan Pizhenko
+ * @since 0.1.1
+ */
+public final class ListSearchIndex {
+
+    private final char[][] keys;
+    private final int[] modelIndexes;
+    private final int[] sortedPositions;
+    // Segment tree for the minimum model index in a range of sorted positions.
+    private final int[] minModelIndexTree;
+
+    private ListSearchIndex(char[][] keys, int[] modelIndexes) {
+        final int size = keys.length;
+        this.keys = keys;
+        this.modelIndexes = modelIndexes;
+        this.sortedPositions = new int[size];
+        for (int i = 0; i < size; i++) {
+            sortedPositions[modelIndexes[i]] = i;
+        }
+        this.minModelIndexTree = new int[size * 2];
+        System.arraycopy(modelIndexes, 0, minModelIndexTree, size, size);
+        for (int i = size - 1; i > 0; i--) {
+            minModelIndexTree[i] = Math.min(minModelIndexTree[2 * i], minModelIndexTree[2 * i + 1]);
+        }
+    }
+
+    /**
+     * Creates index over the current elements of the specified list model.
+     * Elements are converted to strings with {@link Object#toString()}.
+     *
+     * @param model list model.
+     * @return new index.
+     */
+    public static ListSearchIndex create(ListModel<?> model) {
+        final int size = model.getSize();
+        final char[][] unsortedKeys = new char[size][];
+        for (int i = 0; i < size; i++) {
+            final Object element = model.getElementAt(i);
+            unsortedKeys[i] = fold(element != null ? element.toString() : "");
+        }
+        return create(unsortedKeys);
+    }
+
+    /**
+     * Creates index over the specified elements. Indexes of the elements
+     * in the list are used as model indexes.
+     *
+     * @param elements list elements.
+     * @return new index.
+     */
+    public static ListSearchIndex create(List<?> elements) {
+        final int size = elements.size();
+        final char[][] unsortedKeys = new char[size][];
+        for (int i = 0; i < size; i++) {
+            final Object element = elements.get(i);
+            unsortedKeys[i] = fold(element != null ? element.toString() : "");
+        }
+        return create(unsortedKeys);
+    }
+
+    private static ListSearchIndex create(final char[][] unsortedKeys) {
+        final int size = unsortedKeys.length;
+        final Integer[] order = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        // Sort is stable, so equal keys keep model order.
+        Arrays.sort(order, new Comparator<Integer>() {
+            @Override
+            public int compare(Integer a, Integer b) {
+                return compareKeys(unsortedKeys[a], unsortedKeys[b]);
+            }
+        });
+        final char[][] keys = new char[size][];
+        final int[] modelIndexes = new int[size];
+        for (int i = 0; i < size; i++) {
+            modelIndexes[i] = order[i];
+            keys[i] = unsortedKeys[order[i]];
+        }
+        return new ListSearchIndex(keys, modelIndexes);
+    }
+
+    /**
+     * Returns number of indexed elements.
+     *
+     * @return number of elements.
+     */
+    public int size() {
+        return keys.length;
+    }
+
+    /**
+     * Creates new search cursor over this index.
+     *
+     * @return new cursor.
+     */
+    public Cursor newCursor() {
+        return new Cursor();
+    }
+
+    /**
+     * Folds character case in a locale-independent way, consistently with
+     * {@link String#equalsIgnoreCase(String)}.
+     *
+     * @param c character.
+     * @return case-folded character.
+     */
+    static char fold(char c) {
+        return CaseInsensitiveStringIndex.fold(c);
+    }
+
+    /**
+     * Folds case of all characters of a string.
+     *
+     * @param s string.
+     * @return case-folded string.
+     * @see #fold(char)
+     */
+    static String foldCase(CharSequence s) {
+        final char[] chars = new char[s.length()];
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = fold(s.charAt(i));
+        }
+        return new String(chars);
+    }
+
+    private static char[] fold(String s) {
+        final char[] result = new char[s.length()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = fold(s.charAt(i));
+        }
+        return result;
+    }
+
+    private static int compareKeys(char[] a, char[] b) {
+        final int n = Math.min(a.length, b.length);
+        for (int i = 0; i < n; i++) {
+            if (a[i] != b[i]) {
+                return a[i] - b[i];
+            }
+        }
+        return a.length - b.length;
+    }
+
+    private int charAt(int position, int depth) {
+        final char[] key = keys[position];
+        return depth < key.length ? key[depth] : -1;
+    }
+
+    // First position in [from, to) where character at depth is not less than c.
+    private int lowerBound(int from, int to, int depth, int c) {
+        while (from < to) {
+            final int mid = (from + to) >>> 1;
+            if (charAt(mid, depth) < c) {
+                from = mid + 1;
+            } else {
+                to = mid;
+            }
+        }
+        return from;
+    }
+
+    private int minModelIndex(int from, int to) {
+        int result = Integer.MAX_VALUE;
+        for (from += keys.length, to += keys.length; from < to; from >>= 1, to >>= 1) {
+            if ((from & 1) != 0) {
+                result = Math.min(result, minModelIndexTree[from++]);
+            }
+            if ((to & 1) != 0) {
+                result = Math.min(result, minModelIndexTree[--to]);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Incremental search cursor.
+     */
+    public final class Cursor {
+        private char[] query = new char[16];
+        // Match range for each prefix length of the query: [from[k], to[k]).
+        private int[] from = new int[17];
+        private int[] to = new int[17];
+        private int length;
+        private boolean exactMatch;
+
+        private Cursor() {
+            to[0] = keys.length;
+        }
+
+        /**
+         * Returns the model index of the first element, which starts with
+         * the specified text, ignoring case.
+         *
+         * @param text search text.
+         * @return model index of the first matching element, or {@code -1}
+         *         if there is no such element.
+         */
+        public int find(CharSequence text) {
+            final int textLength = text.length();
+            int common = 0;
+            final int limit = Math.min(length, textLength);
+            while (common < limit && query[common] == fold(text.charAt(common))) {
+                common++;
+            }
+            ensureCapacity(textLength);
+            for (int depth = common; depth < textLength; depth++) {
+                final char c = fold(text.charAt(depth));
+                query[depth] = c;
+                final int lo = lowerBound(from[depth], to[depth], depth, c);
+                from[depth + 1] = lo;
+                to[depth + 1] = lowerBound(lo, to[depth], depth, c + 1);
+            }
+            length = textLength;
+
+            final int lo = from[length];
+            final int hi = to[length];
+            if (lo >= hi) {
+                exactMatch = false;
+                return -1;
+            }
+            final int modelIndex = minModelIndex(lo, hi);
+            exactMatch = keys[sortedPositions[modelIndex]].length == length;
+            return modelIndex;
+        }
+
+        /**
+         * Returns whether the element found by the last call
+         * to {@link #find(CharSequence)} equals the search text, ignoring case.
+         *
+         * @return {@code true} if last match is exact.
+         */
+        public boolean isExactMatch() {
+            return exactMatch;
+        }
+
+        /**
+         * Forgets the previous query.
+         */
+        public void reset() {
+            length = 0;
+            exactMatch = false;
+        }
+
+        private void ensureCapacity(int textLength) {
+            if (query.length < textLength) {
+                final int capacity = Math.max(textLength, query.length * 2);
+                query = Arrays.copyOf(query, capacity);
+                from = Arrays.copyOf(from, capacity + 1);
+                to = Arrays.copyOf(to, capacity + 1);
+            }
+        }
+    }
+}
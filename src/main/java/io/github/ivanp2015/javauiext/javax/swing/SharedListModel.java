@@ -0,0 +1,254 @@
+/*
+ * Java UI Extensions project.
+ * https://ivanp2015.github.io/javauiext
+ *
+ * Copyright (c) 2018, Ivan Pizhenko. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Ivan Pizhenko designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Ivan Pizhenko in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package io.github.ivanp2015.javauiext.javax.swing;
+
+import io.github.ivanp2015.javauiext.java.awt.helpers.FontFamilyCatalog;
+import io.github.ivanp2015.javauiext.util.CaseInsensitiveStringIndex;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import javax.swing.ListModel;
+import javax.swing.event.ListDataListener;
+
+/**
+ * Read-only list model of strings, which may be shared by any number
+ * of lists.
+ *
+ * Since the contents never change, the model does not keep list data
+ * listeners, so lists sharing it can be garbage collected independently.
+ * Name index, search index, case-folded elements and prototype cell value
+ * are computed on demand and then shared as well. The model of font
+ * families is backed by the catalog's family name list, not by a copy.
+ *
+ * Shared instances exist for the font families of a
+ * {@link FontFamilyCatalog}, for the font style names of each locale
+ * and for the default font sizes.
+ *
+ * @author Ivan Pizhenko
+ * @since 0.1.1
+ */
+final class SharedListModel implements ListModel<String> {
+
+    private static volatile CatalogModel catalogModel;
+    private static final ConcurrentMap<Locale, SharedListModel> fontStyleModels =
+            new ConcurrentHashMap<>();
+
+    private final List<String> elementList;
+    private volatile String[] elements;
+    private volatile CaseInsensitiveStringIndex nameIndex;
+    private volatile ListSearchIndex searchIndex;
+    private volatile String[] foldedElements;
+    private volatile PrototypeCellValue prototypeCellValue;
+
+    /**
+     * Constructs new object of class {@code SharedListModel}.
+     * The array is not copied and must not be modified afterwards.
+     *
+     * @param elements list elements.
+     */
+    SharedListModel(String[] elements) {
+        this.elementList = Arrays.asList(elements);
+        this.elements = elements;
+    }
+
+    private SharedListModel(List<String> elementList, CaseInsensitiveStringIndex nameIndex) {
+        this.elementList = elementList;
+        this.nameIndex = nameIndex;
+    }
+
+    /**
+     * Returns shared model of the font families of the specified catalog.
+     *
+     * @param catalog font family catalog.
+     * @return shared model.
+     */
+    static SharedListModel forFontFamilies(FontFamilyCatalog catalog) {
+        CatalogModel cached = catalogModel;
+        if (cached == null || cached.catalog != catalog) {
+            cached = new CatalogModel(catalog,
+                    new SharedListModel(catalog.getFamilyNames(), catalog.getNameIndex()));
+            catalogModel = cached;
+        }
+        return cached.model;
+    }
+
+    /**
+     * Returns shared model of the localized font style names.
+     *
+     * @param locale locale.
+     * @return shared model.
+     */
+    static SharedListModel forFontStyles(Locale locale) {
+        SharedListModel model = fontStyleModels.get(locale);
+        if (model == null) {
+            model = new SharedListModel(JFontChooser.createFontStyleNames(locale));
+            final SharedListModel existing = fontStyleModels.putIfAbsent(locale, model);
+            if (existing != null) {
+                model = existing;
+            }
+        }
+        return model;
+    }
+
+    @Override
+    public int getSize() {
+        return elementList.size();
+    }
+
+    @Override
+    public String getElementAt(int index) {
+        return elementList.get(index);
+    }
+
+    @Override
+    public void addListDataListener(ListDataListener l) {
+        // Contents never change, so there's nothing to notify about.
+    }
+
+    @Override
+    public void removeListDataListener(ListDataListener l) {
+        // Contents never change, so there's nothing to notify about.
+    }
+
+    /**
+     * Returns the elements as array. It must not be modified. Model backed
+     * by a list creates the array on the first call.
+     *
+     * @return list elements.
+     */
+    String[] getElements() {
+        String[] result = elements;
+        if (result == null) {
+            result = elementList.toArray(new String[elementList.size()]);
+            elements = result;
+        }
+        return result;
+    }
+
+    /**
+     * Returns index of the element equal to the specified string, ignoring case.
+     *
+     * @param s string to look up.
+     * @return element index, or {@code -1} if there is no such element.
+     */
+    int indexOf(CharSequence s) {
+        return getNameIndex().indexOf(s);
+    }
+
+    CaseInsensitiveStringIndex getNameIndex() {
+        CaseInsensitiveStringIndex index = nameIndex;
+        if (index == null) {
+            index = new CaseInsensitiveStringIndex(getElements());
+            nameIndex = index;
+        }
+        return index;
+    }
+
+    /**
+     * Returns search index, if it is already built.
+     *
+     * @return search index, or {@code null} if not built yet.
+     */
+    ListSearchIndex peekSearchIndex() {
+        return searchIndex;
+    }
+
+    ListSearchIndex getSearchIndex() {
+        ListSearchIndex index = searchIndex;
+        if (index == null) {
+            index = ListSearchIndex.create(this);
+            searchIndex = index;
+        }
+        return index;
+    }
+
+    /**
+     * Returns elements with case folded by {@link ListSearchIndex#fold(char)}.
+     *
+     * @return case-folded elements, which must not be modified.
+     */
+    String[] getFoldedElements() {
+        String[] folded = foldedElements;
+        if (folded == null) {
+            folded = new String[elementList.size()];
+            for (int i = 0; i < folded.length; i++) {
+                folded[i] = ListSearchIndex.foldCase(elementList.get(i));
+            }
+            foldedElements = folded;
+        }
+        return folded;
+    }
+
+    /**
+     * Returns the widest element in the font of the specified metrics,
+     * to be used as prototype cell value, so that lists don't measure
+     * every element. Result is kept for the last font measured with.
+     *
+     * @param metrics metrics of the list font.
+     * @return prototype cell value, or {@code null} if the model is empty.
+     */
+    String getPrototypeCellValue(FontMetrics metrics) {
+        final Font font = metrics.getFont();
+        PrototypeCellValue prototype = prototypeCellValue;
+        if (prototype == null || !prototype.font.equals(font)) {
+            String widest = null;
+            int maxWidth = -1;
+            for (String element : elementList) {
+                final int width = metrics.stringWidth(element);
+                if (width > maxWidth) {
+                    widest = element;
+                    maxWidth = width;
+                }
+            }
+            prototype = new PrototypeCellValue(font, widest);
+            prototypeCellValue = prototype;
+        }
+        return prototype.value;
+    }
+
+    private static final class PrototypeCellValue {
+        final Font font;
+        final String value;
+
+        PrototypeCellValue(Font font, String value) {
+            this.font = font;
+            this.value = value;
+        }
+    }
+
+    private static final class CatalogModel {
+        final FontFamilyCatalog catalog;
+        final SharedListModel model;
+
+        CatalogModel(FontFamilyCatalog catalog, SharedListModel model) {
+            this.catalog = catalog;
+            this.model = model;
+        }
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Java UI Extensions project.
+ * https://ivanp2015.github.io/javauiext
+ *
+ * Copyright (c) 2018, Ivan Pizhenko. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Ivan Pizhenko designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Ivan Pizhenko in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package io.github.ivanp2015.javauiext.util;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Buffered output to a temporary file, which replaces the target file
+ * on {@link #commit()}. Closing without commit discards the output.
+ * Target file keeps its permissions, see {@link TempFiles}.
+ *
+ * @author Ivan Pizhenko
+ * @since 0.1.1
+ */
+final class AtomicFileOutput implements Closeable {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Path file;
+    private final Path tempFile;
+    private final FileDurability durability;
+    private final FileChannel channel;
+    private final OutputStream stream;
+    private boolean closed;
+
+    AtomicFileOutput(Path file, FileDurability durability) throws IOException {
+        this.file = file;
+        this.durability = durability;
+        this.tempFile = TempFiles.createSibling(file);
+        try {
+            this.channel = FileChannel.open(tempFile, StandardOpenOption.WRITE);
+        } catch (IOException | RuntimeException ex) {
+            Files.deleteIfExists(tempFile);
+            throw ex;
+        }
+        this.stream = new BufferedOutputStream(Channels.newOutputStream(channel), BUFFER_SIZE);
+    }
+
+    /**
+     * Returns stream, which writes to the temporary file.
+     *
+     * @return output stream.
+     */
+    OutputStream getStream() {
+        return stream;
+    }
+
+    /**
+     * Completes the output and replaces the target file with it.
+     *
+     * @throws IOException if I/O error happened.
+     */
+    void commit() throws IOException {
+        if (closed) {
+            throw new IllegalStateException("output is closed");
+        }
+        closed = true;
+        try {
+            try {
+                stream.flush();
+                if (durability != FileDurability.NO_SYNC) {
+                    channel.force(true);
+                }
+            } finally {
+                stream.close();
+            }
+            try {
+                Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING,
+                        StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException ex) {
+                Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+        if (durability == FileDurability.SYNC_ALL) {
+            syncDirectory(file.toAbsolutePath().getParent());
+        }
+    }
+
+    // Makes the rename durable. Not every platform allows opening directories.
+    private static void syncDirectory(Path directory) {
+        if (directory == null) {
+            return;
+        }
+        try (final FileChannel dirChannel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            dirChannel.force(true);
+        } catch (IOException ex) {
+            // Directory can't be synchronized on this platform, ignore this exception.
+        }
+    }
+
+    /**
+     * Discards the output, unless it is committed.
+     *
+     * @throws IOException if I/O error happened.
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            channel.close();
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Java UI Extensions project.
+ * https://ivanp2015.github.io/javauiext
+ *
+ * Copyright (c) 2018, Ivan Pizhenko. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Ivan Pizhenko designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Ivan Pizhenko in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package io.github.ivanp2015.javauiext.util;
+
+/**
+ * Immutable hash index, which maps strings to their positions in an array,
+ * ignoring case.
+ *
+ * Strings are compared the same way as {@link String#equalsIgnoreCase(String)}
+ * does, so lookups don't depend on the default locale. Lookups take constant
+ * time on average and don't allocate memory. When the array contains several
+ * strings, which are equal ignoring case, the first one is found.
+ *
+ * This class is thread-safe.
+ *
+ * @author Ivan Pizhenko
+ * @since 0.1.1
+ */
+public final class CaseInsensitiveStringIndex {
+
+    private final String[] strings;
+    // Open addressing table of array indexes plus one, zero marks empty slot.
+    private final int[] slots;
+    private final int mask;
+
+    /**
+     * Constructs new object of class {@code CaseInsensitiveStringIndex}.
+     *
+     * @param strings indexed strings, {@code null} elements are skipped.
+     */
+    public CaseInsensitiveStringIndex(String... strings) {
+        this.strings = strings.clone();
+        int capacity = 2;
+        while (capacity < this.strings.length * 2) {
+            capacity <<= 1;
+        }
+        this.slots = new int[capacity];
+        this.mask = capacity - 1;
+        for (int i = 0; i < this.strings.length; i++) {
+            final String s = this.strings[i];
+            if (s == null) {
+                continue;
+            }
+            int slot = hash(s) & mask;
+            while (slots[slot] != 0 && !equalsFolded(this.strings[slots[slot] - 1], s)) {
+                slot = (slot + 1) & mask;
+            }
+            if (slots[slot] == 0) {
+                slots[slot] = i + 1;
+            }
+        }
+    }
+
+    /**
+     * Returns number of indexed strings, including {@code null} ones.
+     *
+     * @return array length.
+     */
+    public int size() {
+        return strings.length;
+    }
+
+    /**
+     * Returns position of the specified string, ignoring case.
+     *
+     * @param s string to look up.
+     * @return position of the first string equal to the specified one,
+     *         ignoring case, or {@code -1} if there is no such string.
+     */
+    public int indexOf(CharSequence s) {
+        if (s == null) {
+            return -1;
+        }
+        int slot = hash(s) & mask;
+        for (int index = slots[slot]; index != 0; index = slots[slot]) {
+            if (equalsFolded(strings[index - 1], s)) {
+                return index - 1;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * Folds character case in a locale-independent way, consistently with
+     * {@link String#equalsIgnoreCase(String)}.
+     *
+     * @param c character.
+     * @return case-folded character.
+     */
+    public static char fold(char c) {
+        return Character.toLowerCase(Character.toUpperCase(c));
+    }
+
+    private static int hash(CharSequence s) {
+        int h = 0;
+        for (int i = 0; i < s.length(); i++) {
+            h = 31 * h + fold(s.charAt(i));
+        }
+        return h ^ (h >>> 16);
+    }
+
+    private static boolean equalsFolded(String a, CharSequence b) {
+        final int length = a.length();
+        if (length != b.length()) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            final char c1 = a.charAt(i);
+            final char c2 = b.charAt(i);
+            if (c1 != c2 && fold(c1) != fold(c2)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Java UI Extensions project.
+ * https://ivanp2015.github.io/javauiext
+ *
+ * Copyright (c) 2018, Ivan Pizhenko. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Ivan Pizhenko designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Ivan Pizhenko in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package io.github.ivanp2015.javauiext.util;
+
+/**
+ * Durability level of a file save. Files are always written to a temporary
+ * file in the same directory, which then atomically replaces the target,
+ * so a crash of the process never leaves a truncated file. Levels differ
+ * in what survives a crash of the operating system or a power loss,
+ * and in the cost of the synchronization it takes.
+ *
+ * @author Ivan Pizhenko
+ * @since 0.1.1
+ */
+public enum FileDurability {
+
+    /**
+     * No synchronization with the storage device. After a system crash,
+     * the target may hold the old contents, the new contents, or, on some
+     * file systems, be empty.
+     */
+    NO_SYNC,
+
+    /**
+     * Contents of the temporary file are synchronized before it replaces
+     * the target. After a system crash, the target holds either the old
+     * or the complete new contents.
+     */
+    SYNC_CONTENT,
+
+    /**
+     * Like {@link #SYNC_CONTENT}, and the directory is synchronized after
+     * the replacement, where the platform supports it, so the new contents
+     * survive a system crash once the save completes.
+     */
+    SYNC_ALL
+}
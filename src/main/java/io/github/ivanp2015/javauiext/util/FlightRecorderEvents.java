@@ -0,0 +1,220 @@
+/*
+ * Java UI Extensions project.
+ * https://ivanp2015.github.io/javauiext
+ *
+ * Copyright (c) 2018, Ivan Pizhenko. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Ivan Pizhenko designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Ivan Pizhenko in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package io.github.ivanp2015.javauiext.util;
+
+/**
+ * Facade for the Java Flight Recorder events emitted by this library.
+ *
+ * Events are disabled by default. They are enabled either by calling
+ * {@link #setEnabled(boolean)} or by setting the system property
+ * {@value #ENABLED_PROPERTY} to {@code true}, and then recorded as long
+ * as a flight recording is running with the events enabled in its settings.
+ * Event classes are loaded only once events are enabled, so the library
+ * keeps working on runtimes without the {@code jdk.jfr} API, where events
+ * just stay disabled.
+ *
+ * Each operation is reported with a pair of {@code begin} and {@code end}
+ * calls. While events are disabled, {@code begin} methods return
+ * {@code null} and {@code end} methods ignore it, so instrumented code
+ * pays for a single volatile read.
+ *
+ * This class is thread-safe.
+ *
+ * @author Ivan Pizhenko
+ * @since 0.1.1
+ */
+public final class FlightRecorderEvents {
+
+    /**
+     * Name of the system property, which enables events at startup.
+     */
+    public static final String ENABLED_PROPERTY = "io.github.ivanp2015.javauiext.jfr";
+
+    private static volatile boolean enabled;
+
+    static {
+        if (Boolean.getBoolean(ENABLED_PROPERTY)) {
+            setEnabled(true);
+        }
+    }
+
+    private FlightRecorderEvents() {}
+
+    /**
+     * Returns whether events are enabled.
+     *
+     * @return {@code true} if events are enabled.
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Enables or disables events. Events can't be enabled if the runtime
+     * doesn't support Java Flight Recorder.
+     *
+     * @param enabled whether to enable events.
+     * @return {@code true} if events are enabled after this call.
+     */
+    public static synchronized boolean setEnabled(boolean enabled) {
+        FlightRecorderEvents.enabled = enabled && isAvailable();
+        return FlightRecorderEvents.enabled;
+    }
+
+    private static boolean isAvailable() {
+        try {
+            return JfrEvents.register();
+        } catch (LinkageError ex) {
+            // No jdk.jfr API in this runtime.
+            return false;
+        }
+    }
+
+    /**
+     * Begins font family enumeration.
+     *
+     * @return event handle, or {@code null} if events are disabled.
+     */
+    public static Object beginFontCatalogEnumeration() {
+        return enabled ? JfrEvents.beginFontCatalogEnumeration() : null;
+    }
+
+    /**
+     * Ends font family enumeration.
+     *
+     * @param event event handle.
+     * @param familyCount number of enumerated font families.
+     * @param fromCacheFile whether families were read from the catalog file.
+     */
+    public static void endFontCatalogEnumeration(Object event, int familyCount,
+            boolean fromCacheFile) {
+        if (event != null) {
+            JfrEvents.endFontCatalogEnumeration(event, familyCount, fromCacheFile);
+        }
+    }
+
+    /**
+     * Begins font chooser construction.
+     *
+     * @return event handle, or {@code null} if events are disabled.
+     */
+    public static Object beginFontChooserConstruction() {
+        return enabled ? JfrEvents.beginFontChooserConstruction() : null;
+    }
+
+    /**
+     * Ends font chooser construction.
+     *
+     * @param event event handle.
+     * @param asynchronous whether font families are loaded in background.
+     */
+    public static void endFontChooserConstruction(Object event, boolean asynchronous) {
+        if (event != null) {
+            JfrEvents.endFontChooserConstruction(event, asynchronous);
+        }
+    }
+
+    /**
+     * Begins opening of a font chooser dialog, up to the moment
+     * it is made visible.
+     *
+     * @return event handle, or {@code null} if events are disabled.
+     */
+    public static Object beginFontChooserDialogOpen() {
+        return enabled ? JfrEvents.beginFontChooserDialogOpen() : null;
+    }
+
+    /**
+     * Ends opening of a font chooser dialog.
+     *
+     * @param event event handle.
+     * @param operation operation name, like {@code "showDialog"}.
+     * @param reused whether a pooled dialog was reused.
+     */
+    public static void endFontChooserDialogOpen(Object event, String operation, boolean reused) {
+        if (event != null) {
+            JfrEvents.endFontChooserDialogOpen(event, operation, reused);
+        }
+    }
+
+    /**
+     * Begins search of the list element for a search text change.
+     *
+     * @return event handle, or {@code null} if events are disabled.
+     */
+    public static Object beginListSearch() {
+        return enabled ? JfrEvents.beginListSearch() : null;
+    }
+
+    /**
+     * Ends search of the list element.
+     *
+     * @param event event handle.
+     * @param textLength length of the search text.
+     * @param listSize number of list elements.
+     * @param matchIndex index of the found element, or {@code -1}.
+     * @param filtered whether the list was filtered rather than searched.
+     */
+    public static void endListSearch(Object event, int textLength, int listSize,
+            int matchIndex, boolean filtered) {
+        if (event != null) {
+            JfrEvents.endListSearch(event, textLength, listSize, matchIndex, filtered);
+        }
+    }
+
+    /**
+     * Begins loading of an XML file.
+     *
+     * @return event handle, or {@code null} if events are disabled.
+     */
+    public static Object beginXmlFileLoad() {
+        return enabled ? JfrEvents.beginXmlFileLoad() : null;
+    }
+
+    /**
+     * Begins saving of an XML file.
+     *
+     * @return event handle, or {@code null} if events are disabled.
+     */
+    public static Object beginXmlFileSave() {
+        return enabled ? JfrEvents.beginXmlFileSave() : null;
+    }
+
+    /**
+     * Ends loading or saving of an XML file.
+     *
+     * @param event event handle.
+     * @param path file path.
+     * @param type class of the loaded or saved object.
+     * @param bytes file size in bytes, or {@code -1} if unknown.
+     * @param contextCreationNanos time spent creating JAXB context, in nanoseconds.
+     */
+    public static void endXmlFileOperation(Object event, String path, Class<?> type,
+            long bytes, long contextCreationNanos) {
+        if (event != null) {
+            JfrEvents.endXmlFileOperation(event, path, type, bytes, contextCreationNanos);
+        }
+    }
+}
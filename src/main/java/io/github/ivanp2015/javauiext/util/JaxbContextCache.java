@@ -0,0 +1,354 @@
+/*
+ * Java UI Extensions project.
+ * https://ivanp2015.github.io/javauiext
+ *
+ * Copyright (c) 2018, Ivan Pizhenko. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Ivan Pizhenko designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Ivan Pizhenko in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package io.github.ivanp2015.javauiext.util;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.LongAdder;
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Marshaller;
+import javax.xml.bind.Unmarshaller;
+
+/**
+ * Cache of {@link JAXBContext} instances keyed by the bound class, along
+ * with pools of marshallers and unmarshallers created from them.
+ *
+ * Creating a context reflects over the whole bound type graph, so it is
+ * by far the most expensive JAXB operation, while contexts themselves are
+ * thread-safe and can be reused indefinitely. Entries are attached to
+ * the bound classes with {@link ClassValue}, so the cache doesn't keep
+ * classes, and hence their class loaders, from being unloaded. Entries
+ * may also be evicted explicitly.
+ *
+ * Marshallers and unmarshallers are not thread-safe, so they are handed
+ * out for exclusive use and should be given back when done:
+ * <pre>
+ * final Marshaller marshaller = cache.acquireMarshaller(type);
+ * try {
+ *     marshaller.marshal(object, out);
+ * } finally {
+ *     cache.releaseMarshaller(type, marshaller);
+ * }
+ * </pre>
+ * Callers, which change marshaller properties, must set them every time
+ * they acquire a marshaller.
+ *
+ * This class is thread-safe.
+ *
+ * @author Ivan Pizhenko
+ * @since 0.1.1
+ */
+public final class JaxbContextCache {
+
+    // Enough for every thread of a parallel bulk load to keep its unmarshaller.
+    private static final int MAX_POOLED_PER_CLASS =
+            Math.max(4, Runtime.getRuntime().availableProcessors());
+
+    private static final JaxbContextCache shared = new JaxbContextCache();
+
+    private final ClassValue<Entry> entries = new ClassValue<Entry>() {
+        @Override
+        protected Entry computeValue(Class<?> type) {
+            return new Entry(type, generation);
+        }
+    };
+    // Entries created before the last clear() are stale.
+    private volatile int generation;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder contextBuildNanos = new LongAdder();
+    private final LongAdder marshallersCreated = new LongAdder();
+    private final LongAdder unmarshallersCreated = new LongAdder();
+
+    /**
+     * Constructs new object of class {@code JaxbContextCache}.
+     */
+    public JaxbContextCache() {
+    }
+
+    /**
+     * Returns the cache shared by the whole library.
+     *
+     * @return shared cache.
+     */
+    public static JaxbContextCache getShared() {
+        return shared;
+    }
+
+    /**
+     * Returns context for the specified class, creating it if needed.
+     *
+     * @param type bound class.
+     * @return JAXB context.
+     * @throws JAXBException if an error occurred when creating context.
+     */
+    public JAXBContext getContext(Class<?> type) throws JAXBException {
+        return entry(type).getContext();
+    }
+
+    /**
+     * Returns marshaller for the specified class for exclusive use.
+     *
+     * @param type bound class.
+     * @return pooled or new marshaller.
+     * @throws JAXBException if an error occurred when creating context or marshaller.
+     * @see #releaseMarshaller(Class, Marshaller)
+     */
+    public Marshaller acquireMarshaller(Class<?> type) throws JAXBException {
+        final Entry entry = entry(type);
+        Marshaller marshaller = entry.marshallers.poll();
+        if (marshaller != null) {
+            hits.increment();
+        } else {
+            marshaller = entry.getContext().createMarshaller();
+            marshallersCreated.increment();
+        }
+        entry.issued.add(marshaller);
+        return marshaller;
+    }
+
+    /**
+     * Gives back marshaller acquired with {@link #acquireMarshaller(Class)}.
+     * Marshaller must not be used afterwards. Marshaller acquired before
+     * the class was evicted is dropped rather than pooled.
+     *
+     * @param type bound class.
+     * @param marshaller marshaller.
+     */
+    public void releaseMarshaller(Class<?> type, Marshaller marshaller) {
+        final Entry entry = entry(type);
+        if (entry.issued.remove(marshaller)) {
+            entry.marshallers.offer(marshaller);
+        }
+    }
+
+    /**
+     * Returns unmarshaller for the specified class for exclusive use.
+     *
+     * @param type bound class.
+     * @return pooled or new unmarshaller.
+     * @throws JAXBException if an error occurred when creating context or unmarshaller.
+     * @see #releaseUnmarshaller(Class, Unmarshaller)
+     */
+    public Unmarshaller acquireUnmarshaller(Class<?> type) throws JAXBException {
+        final Entry entry = entry(type);
+        Unmarshaller unmarshaller = entry.unmarshallers.poll();
+        if (unmarshaller != null) {
+            hits.increment();
+        } else {
+            unmarshaller = entry.getContext().createUnmarshaller();
+            unmarshallersCreated.increment();
+        }
+        entry.issued.add(unmarshaller);
+        return unmarshaller;
+    }
+
+    /**
+     * Gives back unmarshaller acquired with {@link #acquireUnmarshaller(Class)}.
+     * Unmarshaller must not be used afterwards. Unmarshaller acquired before
+     * the class was evicted is dropped rather than pooled.
+     *
+     * @param type bound class.
+     * @param unmarshaller unmarshaller.
+     */
+    public void releaseUnmarshaller(Class<?> type, Unmarshaller unmarshaller) {
+        final Entry entry = entry(type);
+        if (entry.issued.remove(unmarshaller)) {
+            entry.unmarshallers.offer(unmarshaller);
+        }
+    }
+
+    /**
+     * Evicts context and pooled marshallers of the specified class.
+     *
+     * @param type bound class.
+     */
+    public void evict(Class<?> type) {
+        entries.remove(type);
+        evictions.increment();
+    }
+
+    /**
+     * Evicts contexts and pooled marshallers of all classes.
+     */
+    public synchronized void clear() {
+        generation++;
+        evictions.increment();
+    }
+
+    /**
+     * Returns cache statistics collected since this cache was created.
+     *
+     * @return statistics snapshot.
+     */
+    public Statistics getStatistics() {
+        return new Statistics(hits.sum(), misses.sum(), evictions.sum(),
+                contextBuildNanos.sum(), marshallersCreated.sum(), unmarshallersCreated.sum());
+    }
+
+    private Entry entry(Class<?> type) {
+        Entry entry = entries.get(type);
+        if (entry.generation != generation) {
+            entries.remove(type);
+            entry = entries.get(type);
+        }
+        return entry;
+    }
+
+    /**
+     * Cached context of a class and its marshaller pools.
+     */
+    private final class Entry {
+        final Class<?> type;
+        final int generation;
+        final BlockingQueue<Marshaller> marshallers =
+                new ArrayBlockingQueue<>(MAX_POOLED_PER_CLASS);
+        final BlockingQueue<Unmarshaller> unmarshallers =
+                new ArrayBlockingQueue<>(MAX_POOLED_PER_CLASS);
+        // Marshallers and unmarshallers handed out from this entry. Weak, so that
+        // ones never given back don't leak.
+        final Set<Object> issued =
+                Collections.newSetFromMap(Collections.synchronizedMap(new WeakHashMap<>()));
+        private volatile JAXBContext context;
+
+        Entry(Class<?> type, int generation) {
+            this.type = type;
+            this.generation = generation;
+        }
+
+        JAXBContext getContext() throws JAXBException {
+            JAXBContext result = context;
+            if (result != null) {
+                hits.increment();
+                return result;
+            }
+            synchronized(this) {
+                result = context;
+                if (result != null) {
+                    hits.increment();
+                    return result;
+                }
+                final long start = System.nanoTime();
+                result = JAXBContext.newInstance(type);
+                contextBuildNanos.add(System.nanoTime() - start);
+                misses.increment();
+                context = result;
+                return result;
+            }
+        }
+    }
+
+    /**
+     * Snapshot of the cache statistics.
+     */
+    public static final class Statistics {
+        private final long hits;
+        private final long misses;
+        private final long evictions;
+        private final long contextBuildNanos;
+        private final long marshallersCreated;
+        private final long unmarshallersCreated;
+
+        Statistics(long hits, long misses, long evictions, long contextBuildNanos,
+                long marshallersCreated, long unmarshallersCreated) {
+            this.hits = hits;
+            this.misses = misses;
+            this.evictions = evictions;
+            this.contextBuildNanos = contextBuildNanos;
+            this.marshallersCreated = marshallersCreated;
+            this.unmarshallersCreated = unmarshallersCreated;
+        }
+
+        /**
+         * Returns number of requests for a context, marshaller or
+         * unmarshaller, which were served without creating a context.
+         *
+         * @return number of cache hits.
+         */
+        public long getHits() {
+            return hits;
+        }
+
+        /**
+         * Returns number of requests, which created a new context.
+         *
+         * @return number of cache misses.
+         */
+        public long getMisses() {
+            return misses;
+        }
+
+        /**
+         * Returns number of {@link JaxbContextCache#evict(Class)}
+         * and {@link JaxbContextCache#clear()} calls.
+         *
+         * @return number of evictions.
+         */
+        public long getEvictions() {
+            return evictions;
+        }
+
+        /**
+         * Returns total time spent creating contexts.
+         *
+         * @return context creation time in nanoseconds.
+         */
+        public long getContextBuildNanos() {
+            return contextBuildNanos;
+        }
+
+        /**
+         * Returns number of marshallers created, rather than taken from pools.
+         *
+         * @return number of created marshallers.
+         */
+        public long getMarshallersCreated() {
+            return marshallersCreated;
+        }
+
+        /**
+         * Returns number of unmarshallers created, rather than taken from pools.
+         *
+         * @return number of created unmarshallers.
+         */
+        public long getUnmarshallersCreated() {
+            return unmarshallersCreated;
+        }
+
+        @Override
+        public String toString() {
+            return "JaxbContextCache.Statistics[hits=" + hits + ", misses=" + misses
+                    + ", evictions=" + evictions + ", contextBuildNanos=" + contextBuildNanos
+                    + ", marshallersCreated=" + marshallersCreated
+                    + ", unmarshallersCreated=" + unmarshallersCreated + "]";
+        }
+    }
+}
@@ -25,9 +25,18 @@
 package io.github.ivanp2015.javauiext.util;
 
 import java.io.File;
-import java.io.FileOutputStream;
 import java.io.IOException;
-import javax.xml.bind.JAXBContext;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
 import javax.xml.bind.JAXBException;
 import javax.xml.bind.Marshaller;
 import javax.xml.bind.PropertyException;
@@ -35,6 +44,12 @@ import javax.xml.bind.Unmarshaller;
 
 /**
  * JAXB XML file generic serialization code.
+ * JAXB contexts, marshallers and unmarshallers are reused through
+ * the {@linkplain JaxbContextCache#getShared() shared context cache}.
+ * Asynchronous variants of load and save run on a bounded pool of
+ * background threads, or on the executor set with
+ * {@link #setAsyncExecutor(Executor)}. Asynchronous saves to the same
+ * file never overlap and complete in the order they were requested.
  * @author Ivan Pizhenko.
  * @since 0.0.2
  */
@@ -51,30 +66,322 @@ public final class JaxbXmlFileSerializer {
      * @throws javax.xml.bind.JAXBException if an error occurred when creating unmarshaler.
      */
     public static Object loadFromXmlFile(String path, Class<?> clazz) throws JAXBException {
-        final JAXBContext jaxbContext = JAXBContext.newInstance(clazz);
-        final Unmarshaller jaxbUnmarshaller = jaxbContext.createUnmarshaller();
-        return jaxbUnmarshaller.unmarshal(new File(path));
+        final Object event = FlightRecorderEvents.beginXmlFileLoad();
+        final JaxbContextCache cache = JaxbContextCache.getShared();
+        final long contextStart = event != null ? System.nanoTime() : 0L;
+        final Unmarshaller jaxbUnmarshaller = cache.acquireUnmarshaller(clazz);
+        final long contextNanos = event != null ? System.nanoTime() - contextStart : 0L;
+        final File file = new File(path);
+        final Object result;
+        try {
+            result = jaxbUnmarshaller.unmarshal(file);
+        } finally {
+            cache.releaseUnmarshaller(clazz, jaxbUnmarshaller);
+        }
+        if (event != null) {
+            FlightRecorderEvents.endXmlFileOperation(event, path, clazz, file.length(),
+                    contextNanos);
+        }
+        return result;
     }
 
     /**
-     * Saves object to specified file.
+     * Saves object to specified file. File is written to a temporary file,
+     * which then replaces the target, with {@link FileDurability#NO_SYNC}
+     * durability.
      * 
      * @param path data file path.
      * @param object object to save.
      * @throws javax.xml.bind.JAXBException if an error occurred when creating marshaler.
      * @throws java.io.IOException if I/O error happened.
+     * @see #saveToXmlFile(String, Object, FileDurability)
      */
     public static void saveToXmlFile(String path, Object object) throws JAXBException, IOException {
-        final JAXBContext jaxbContext = JAXBContext.newInstance(object.getClass());
-        final Marshaller jaxbMarshaller = jaxbContext.createMarshaller();
+        saveToXmlFile(path, object, FileDurability.NO_SYNC);
+    }
+
+    /**
+     * Saves object to specified file. File is written through a buffer to
+     * a temporary file in the same directory, which then atomically replaces
+     * the target, so that the target is never left partially written.
+     * 
+     * @param path data file path.
+     * @param object object to save.
+     * @param durability durability level.
+     * @throws javax.xml.bind.JAXBException if an error occurred when creating marshaler.
+     * @throws java.io.IOException if I/O error happened.
+     */
+    public static void saveToXmlFile(String path, Object object, FileDurability durability)
+            throws JAXBException, IOException {
+        final Object event = FlightRecorderEvents.beginXmlFileSave();
+        final JaxbContextCache cache = JaxbContextCache.getShared();
+        final File file = new File(path);
+        final Class<?> clazz = object.getClass();
+        final long contextStart = event != null ? System.nanoTime() : 0L;
+        final Marshaller jaxbMarshaller = cache.acquireMarshaller(clazz);
+        final long contextNanos = event != null ? System.nanoTime() - contextStart : 0L;
         try {
-            jaxbMarshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
-            jaxbMarshaller.setProperty(Marshaller.JAXB_ENCODING, "utf-8");
-        } catch(PropertyException ex) {
-            // ignore this exception, it should not happen.
+            try {
+                jaxbMarshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
+                jaxbMarshaller.setProperty(Marshaller.JAXB_ENCODING, "utf-8");
+                jaxbMarshaller.setProperty(Marshaller.JAXB_FRAGMENT, false);
+            } catch(PropertyException ex) {
+                // ignore this exception, it should not happen.
+            }
+            try (final AtomicFileOutput output = new AtomicFileOutput(file.toPath(), durability)) {
+                jaxbMarshaller.marshal(object, output.getStream());
+                output.commit();
+            }
+        } finally {
+            cache.releaseMarshaller(clazz, jaxbMarshaller);
         }
-        try (final FileOutputStream fos = new FileOutputStream(new File(path))) {
-            jaxbMarshaller.marshal(object, fos);
+        if (event != null) {
+            FlightRecorderEvents.endXmlFileOperation(event, path, clazz, file.length(),
+                    contextNanos);
         }
     }
+
+    /**
+     * Opens reader of the child elements of the root element of specified file.
+     * Elements are unmarshalled one at a time, as they are read.
+     *
+     * @param <T> element type.
+     * @param path data file path.
+     * @param elementName name of the elements to read, {@code null} means
+     *                    all child elements of the root.
+     * @param elementType element class.
+     * @return new reader, which must be closed.
+     * @throws javax.xml.bind.JAXBException if an error occurred when creating unmarshaler.
+     * @throws java.io.IOException if I/O error happened.
+     */
+    public static <T> XmlElementReader<T> openXmlElementReader(String path, String elementName,
+            Class<T> elementType) throws JAXBException, IOException {
+        return new XmlElementReader<>(path, elementName, elementType);
+    }
+
+    /**
+     * Loads child elements of the root element of specified file one at a time
+     * and passes each one to the consumer as soon as it is unmarshalled.
+     *
+     * @param <T> element type.
+     * @param path data file path.
+     * @param elementName name of the elements to load, {@code null} means
+     *                    all child elements of the root.
+     * @param elementType element class.
+     * @param consumer element consumer.
+     * @return number of loaded elements.
+     * @throws javax.xml.bind.JAXBException if an error occurred when unmarshalling.
+     * @throws java.io.IOException if I/O error happened.
+     */
+    public static <T> long loadElementsFromXmlFile(String path, String elementName,
+            Class<T> elementType, Consumer<? super T> consumer) throws JAXBException, IOException {
+        long count = 0;
+        try (final XmlElementReader<T> reader = openXmlElementReader(path, elementName, elementType)) {
+            for (T element = reader.read(); element != null; element = reader.read()) {
+                consumer.accept(element);
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Opens writer of specified file, which writes child elements
+     * of the root element one at a time.
+     *
+     * @param <T> element type.
+     * @param path data file path.
+     * @param rootElementName name of the root element.
+     * @param elementName name of the child elements, may be {@code null} if
+     *                    element class is annotated with
+     *                    {@link javax.xml.bind.annotation.XmlRootElement}.
+     * @param elementType element class.
+     * @return new writer, which must be closed to complete the file.
+     * @throws javax.xml.bind.JAXBException if an error occurred when creating marshaler.
+     * @throws java.io.IOException if I/O error happened.
+     */
+    public static <T> XmlElementWriter<T> openXmlElementWriter(String path, String rootElementName,
+            String elementName, Class<T> elementType) throws JAXBException, IOException {
+        return openXmlElementWriter(path, rootElementName, elementName, elementType,
+                FileDurability.NO_SYNC);
+    }
+
+    /**
+     * Opens writer of specified file, which writes child elements
+     * of the root element one at a time. Like {@link #saveToXmlFile(String,
+     * Object, FileDurability)}, file replaces the target only once complete.
+     *
+     * @param <T> element type.
+     * @param path data file path.
+     * @param rootElementName name of the root element.
+     * @param elementName name of the child elements, may be {@code null} if
+     *                    element class is annotated with
+     *                    {@link javax.xml.bind.annotation.XmlRootElement}.
+     * @param elementType element class.
+     * @param durability durability level.
+     * @return new writer, which must be closed to complete the file.
+     * @throws javax.xml.bind.JAXBException if an error occurred when creating marshaler.
+     * @throws java.io.IOException if I/O error happened.
+     */
+    public static <T> XmlElementWriter<T> openXmlElementWriter(String path, String rootElementName,
+            String elementName, Class<T> elementType, FileDurability durability)
+            throws JAXBException, IOException {
+        return new XmlElementWriter<>(path, rootElementName, elementName, elementType,
+                durability);
+    }
+
+    /**
+     * Saves elements to specified file as child elements of the root element,
+     * marshalling them one at a time.
+     *
+     * @param <T> element type.
+     * @param path data file path.
+     * @param rootElementName name of the root element.
+     * @param elementName name of the child elements, may be {@code null} if
+     *                    element class is annotated with
+     *                    {@link javax.xml.bind.annotation.XmlRootElement}.
+     * @param elementType element class.
+     * @param elements elements to save.
+     * @throws javax.xml.bind.JAXBException if an error occurred when marshalling.
+     * @throws java.io.IOException if I/O error happened.
+     */
+    public static <T> void saveElementsToXmlFile(String path, String rootElementName,
+            String elementName, Class<T> elementType, Iterable<? extends T> elements)
+            throws JAXBException, IOException {
+        try (final XmlElementWriter<T> writer =
+                openXmlElementWriter(path, rootElementName, elementName, elementType)) {
+            for (T element : elements) {
+                writer.write(element);
+            }
+        }
+    }
+
+    /**
+     * Loads objects from specified files in parallel. Files are parsed
+     * by the common fork-join pool, with unmarshallers created from
+     * the shared cached context. Failure to load a file doesn't affect
+     * loading other files.
+     *
+     * @param <T> object type.
+     * @param paths data file paths.
+     * @param clazz object class.
+     * @return load results, in the order of paths.
+     */
+    public static <T> List<XmlFileLoadResult<T>> loadFromXmlFiles(List<String> paths,
+            Class<T> clazz) {
+        final String[] pathArray = paths.toArray(new String[paths.size()]);
+        // Slots are set by index from the loader tasks, the list is never resized.
+        final List<XmlFileLoadResult<T>> results =
+                new ArrayList<>(Collections.<XmlFileLoadResult<T>>nCopies(pathArray.length, null));
+        if (pathArray.length > 0) {
+            ForkJoinPool.commonPool().invoke(
+                    new XmlFileBulkLoader<>(pathArray, clazz, results, 0, pathArray.length));
+        }
+        return Collections.unmodifiableList(results);
+    }
+
+    /**
+     * Loads objects from all {@code *.xml} files in specified directory
+     * in parallel, like {@link #loadFromXmlFiles(List, Class)} does.
+     * Subdirectories are not searched.
+     *
+     * @param <T> object type.
+     * @param directory directory path.
+     * @param clazz object class.
+     * @return load results, in the order of file names.
+     * @throws java.io.IOException if the directory can't be listed.
+     */
+    public static <T> List<XmlFileLoadResult<T>> loadFromXmlDirectory(String directory,
+            Class<T> clazz) throws IOException {
+        final List<String> paths = new ArrayList<>();
+        try (final DirectoryStream<Path> files =
+                Files.newDirectoryStream(Paths.get(directory), "*.xml")) {
+            for (Path file : files) {
+                if (Files.isRegularFile(file)) {
+                    paths.add(file.toString());
+                }
+            }
+        }
+        Collections.sort(paths);
+        return loadFromXmlFiles(paths, clazz);
+    }
+
+    /**
+     * Loads object from specified file in background. Loading starts after
+     * the asynchronous saves to the same file requested earlier complete.
+     *
+     * @param <T> object type.
+     * @param path data file path.
+     * @param clazz object class.
+     * @return future, which completes with the loaded object, or
+     *         exceptionally with {@link javax.xml.bind.JAXBException} or
+     *         {@link java.io.IOException} as the cause.
+     */
+    public static <T> CompletableFuture<T> loadFromXmlFileAsync(String path, Class<T> clazz) {
+        return XmlFileTasks.read(path, () -> clazz.cast(loadFromXmlFile(path, clazz)));
+    }
+
+    /**
+     * Saves object to specified file in background, with
+     * {@link FileDurability#NO_SYNC} durability.
+     *
+     * @param path data file path.
+     * @param object object to save.
+     * @return future, which completes when the file is saved.
+     * @see #saveToXmlFileAsync(String, Object, FileDurability)
+     */
+    public static CompletableFuture<Void> saveToXmlFileAsync(String path, Object object) {
+        return saveToXmlFileAsync(path, object, FileDurability.NO_SYNC);
+    }
+
+    /**
+     * Saves object to specified file in background. Saves to the same file
+     * run one at a time, in the order they were requested. Object is
+     * marshalled in background, so it must not be modified until
+     * the returned future completes.
+     *
+     * @param path data file path.
+     * @param object object to save.
+     * @param durability durability level.
+     * @return future, which completes when the file is saved, or
+     *         exceptionally with {@link javax.xml.bind.JAXBException} or
+     *         {@link java.io.IOException} as the cause.
+     */
+    public static CompletableFuture<Void> saveToXmlFileAsync(String path, Object object,
+            FileDurability durability) {
+        return XmlFileTasks.write(path, () -> {
+            saveToXmlFile(path, object, durability);
+            return null;
+        });
+    }
+
+    /**
+     * Returns executor, which runs asynchronous loads and saves.
+     *
+     * @return executor.
+     */
+    public static Executor getAsyncExecutor() {
+        return XmlFileTasks.getExecutor();
+    }
+
+    /**
+     * Sets executor, which runs asynchronous loads and saves.
+     *
+     * @param executor executor, {@code null} means the default bounded
+     *                 pool of background threads.
+     */
+    public static void setAsyncExecutor(Executor executor) {
+        XmlFileTasks.setExecutor(executor);
+    }
+
+    /**
+     * Makes asynchronous loads and saves run on virtual threads, if the
+     * runtime supports them (Java 21 or newer).
+     *
+     * @return {@code true} if virtual threads are used, {@code false}
+     *         if they are not supported and the executor hasn't changed.
+     */
+    public static boolean useVirtualThreadsForAsync() {
+        return XmlFileTasks.useVirtualThreads();
+    }
 }
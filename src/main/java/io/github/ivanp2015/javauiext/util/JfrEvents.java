@@ -0,0 +1,235 @@
+/*
+ * Java UI Extensions project.
+ * https://ivanp2015.github.io/javauiext
+ *
+ * Copyright (c) 2018, Ivan Pizhenko. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Ivan Pizhenko designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Ivan Pizhenko in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package io.github.ivanp2015.javauiext.util;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Java Flight Recorder event types of this library. This class refers
+ * to the {@code jdk.jfr} API and must be accessed only through
+ * {@link FlightRecorderEvents}.
+ *
+ * @author Ivan Pizhenko
+ * @since 0.1.1
+ */
+final class JfrEvents {
+
+    private static final String CATEGORY = "Java UI Extensions";
+
+    private JfrEvents() {}
+
+    static boolean register() {
+        if (!FlightRecorder.isAvailable()) {
+            return false;
+        }
+        FlightRecorder.register(FontCatalogEnumeration.class);
+        FlightRecorder.register(FontChooserConstruction.class);
+        FlightRecorder.register(FontChooserDialogOpen.class);
+        FlightRecorder.register(ListSearch.class);
+        FlightRecorder.register(XmlFileLoad.class);
+        FlightRecorder.register(XmlFileSave.class);
+        return true;
+    }
+
+    static Object beginFontCatalogEnumeration() {
+        final FontCatalogEnumeration event = new FontCatalogEnumeration();
+        event.begin();
+        return event;
+    }
+
+    static void endFontCatalogEnumeration(Object handle, int familyCount,
+            boolean fromCacheFile) {
+        final FontCatalogEnumeration event = (FontCatalogEnumeration) handle;
+        event.end();
+        if (event.shouldCommit()) {
+            event.familyCount = familyCount;
+            event.fromCacheFile = fromCacheFile;
+            event.commit();
+        }
+    }
+
+    static Object beginFontChooserConstruction() {
+        final FontChooserConstruction event = new FontChooserConstruction();
+        event.begin();
+        return event;
+    }
+
+    static void endFontChooserConstruction(Object handle, boolean asynchronous) {
+        final FontChooserConstruction event = (FontChooserConstruction) handle;
+        event.end();
+        if (event.shouldCommit()) {
+            event.asynchronous = asynchronous;
+            event.commit();
+        }
+    }
+
+    static Object beginFontChooserDialogOpen() {
+        final FontChooserDialogOpen event = new FontChooserDialogOpen();
+        event.begin();
+        return event;
+    }
+
+    static void endFontChooserDialogOpen(Object handle, String operation, boolean reused) {
+        final FontChooserDialogOpen event = (FontChooserDialogOpen) handle;
+        event.end();
+        if (event.shouldCommit()) {
+            event.operation = operation;
+            event.reused = reused;
+            event.commit();
+        }
+    }
+
+    static Object beginListSearch() {
+        final ListSearch event = new ListSearch();
+        event.begin();
+        return event;
+    }
+
+    static void endListSearch(Object handle, int textLength, int listSize, int matchIndex,
+            boolean filtered) {
+        final ListSearch event = (ListSearch) handle;
+        event.end();
+        if (event.shouldCommit()) {
+            event.textLength = textLength;
+            event.listSize = listSize;
+            event.matchIndex = matchIndex;
+            event.filtered = filtered;
+            event.commit();
+        }
+    }
+
+    static Object beginXmlFileLoad() {
+        final XmlFileLoad event = new XmlFileLoad();
+        event.begin();
+        return event;
+    }
+
+    static Object beginXmlFileSave() {
+        final XmlFileSave event = new XmlFileSave();
+        event.begin();
+        return event;
+    }
+
+    static void endXmlFileOperation(Object handle, String path, Class<?> type, long bytes,
+            long contextCreationNanos) {
+        final XmlFileEvent event = (XmlFileEvent) handle;
+        event.end();
+        if (event.shouldCommit()) {
+            event.path = path;
+            event.type = type;
+            event.bytes = bytes;
+            event.contextCreationTime = contextCreationNanos;
+            event.commit();
+        }
+    }
+
+    @Name("io.github.ivanp2015.javauiext.FontCatalogEnumeration")
+    @Label("Font Catalog Enumeration")
+    @Description("Enumeration of the available font families")
+    @Category(CATEGORY)
+    static final class FontCatalogEnumeration extends Event {
+        @Label("Family Count")
+        int familyCount;
+
+        @Label("From Cache File")
+        boolean fromCacheFile;
+    }
+
+    @Name("io.github.ivanp2015.javauiext.FontChooserConstruction")
+    @Label("Font Chooser Construction")
+    @Category(CATEGORY)
+    static final class FontChooserConstruction extends Event {
+        @Label("Asynchronous")
+        @Description("Whether font families are loaded in background")
+        boolean asynchronous;
+    }
+
+    @Name("io.github.ivanp2015.javauiext.FontChooserDialogOpen")
+    @Label("Font Chooser Dialog Open")
+    @Description("Creation or reuse of a font chooser dialog, until it is made visible")
+    @Category(CATEGORY)
+    static final class FontChooserDialogOpen extends Event {
+        @Label("Operation")
+        String operation;
+
+        @Label("Reused")
+        boolean reused;
+    }
+
+    @Name("io.github.ivanp2015.javauiext.ListSearch")
+    @Label("List Search")
+    @Description("Search or filtering of a font chooser list for a search text change")
+    @Category(CATEGORY)
+    @StackTrace(false)
+    static final class ListSearch extends Event {
+        @Label("Text Length")
+        int textLength;
+
+        @Label("List Size")
+        int listSize;
+
+        @Label("Match Index")
+        int matchIndex;
+
+        @Label("Filtered")
+        boolean filtered;
+    }
+
+    abstract static class XmlFileEvent extends Event {
+        @Label("Path")
+        String path;
+
+        @Label("Type")
+        Class<?> type;
+
+        @Label("Bytes")
+        @DataAmount
+        long bytes;
+
+        @Label("Context Creation Time")
+        @Timespan
+        long contextCreationTime;
+    }
+
+    @Name("io.github.ivanp2015.javauiext.XmlFileLoad")
+    @Label("XML File Load")
+    @Category(CATEGORY)
+    static final class XmlFileLoad extends XmlFileEvent {
+    }
+
+    @Name("io.github.ivanp2015.javauiext.XmlFileSave")
+    @Label("XML File Save")
+    @Category(CATEGORY)
+    static final class XmlFileSave extends XmlFileEvent {
+    }
+}
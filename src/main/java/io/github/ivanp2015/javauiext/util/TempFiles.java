@@ -0,0 +1,101 @@
+/*
+ * Java UI Extensions project.
+ * https://ivanp2015.github.io/javauiext
+ *
+ * Copyright (c) 2018, Ivan Pizhenko. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Ivan Pizhenko designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Ivan Pizhenko in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package io.github.ivanp2015.javauiext.util;
+
+import java.io.IOException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermission;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Temporary files, which are written and then moved over a target file.
+ *
+ * Unlike {@link Files#createTempFile(Path, String, String,
+ * java.nio.file.attribute.FileAttribute...)}, which makes files accessible
+ * only to the owner, temporary files created here get the permissions of
+ * the existing target file, or the default permissions of a new file,
+ * so that replacing the target doesn't change its permissions.
+ *
+ * @author Ivan Pizhenko
+ * @since 0.1.1
+ */
+public final class TempFiles {
+
+    private TempFiles() {}
+
+    /**
+     * Creates empty temporary file in the directory of the target file,
+     * creating the directory if needed.
+     *
+     * @param file target file.
+     * @return temporary file path.
+     * @throws IOException if I/O error happened.
+     */
+    public static Path createSibling(Path file) throws IOException {
+        final Path absolute = file.toAbsolutePath();
+        final Path directory = absolute.getParent();
+        if (directory != null) {
+            Files.createDirectories(directory);
+        }
+        final String prefix = "." + absolute.getFileName() + ".";
+        Path tempFile;
+        while (true) {
+            tempFile = absolute.resolveSibling(
+                    prefix + Long.toHexString(ThreadLocalRandom.current().nextLong()) + ".tmp");
+            // Created with the default permissions, like any new file.
+            try {
+                Files.newByteChannel(tempFile, StandardOpenOption.CREATE_NEW,
+                        StandardOpenOption.WRITE).close();
+                break;
+            } catch (FileAlreadyExistsException ex) {
+                // Name is taken, try another one.
+            }
+        }
+        try {
+            copyPermissions(absolute, tempFile);
+        } catch (IOException | RuntimeException ex) {
+            Files.deleteIfExists(tempFile);
+            throw ex;
+        }
+        return tempFile;
+    }
+
+    private static void copyPermissions(Path source, Path target) throws IOException {
+        final PosixFileAttributeView sourceView =
+                Files.getFileAttributeView(source, PosixFileAttributeView.class);
+        if (sourceView == null || !Files.exists(source)) {
+            return;
+        }
+        final Set<PosixFilePermission> permissions =
+                sourceView.readAttributes().permissions();
+        Files.getFileAttributeView(target, PosixFileAttributeView.class)
+                .setPermissions(permissions);
+    }
+}
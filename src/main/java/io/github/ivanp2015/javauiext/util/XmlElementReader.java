@@ -0,0 +1,176 @@
+/*
+ * Java UI Extensions project.
+ * https://ivanp2015.github.io/javauiext
+ *
+ * Copyright (c) 2018, Ivan Pizhenko. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Ivan Pizhenko designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Ivan Pizhenko in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package io.github.ivanp2015.javauiext.util;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Unmarshaller;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * Reads child elements of the root element of an XML file one at a time.
+ *
+ * Each element is unmarshalled with JAXB from a StAX stream as soon as it is
+ * requested, so memory use doesn't depend on the number of elements in
+ * the file. Elements of the root with other names are skipped.
+ *
+ * Instances are created with
+ * {@link JaxbXmlFileSerializer#openXmlElementReader(String, String, Class)}.
+ * This class is not thread-safe.
+ *
+ * @param <T> element type.
+ * @author Ivan Pizhenko
+ * @since 0.1.1
+ */
+public final class XmlElementReader<T> implements AutoCloseable {
+
+    private static final XMLInputFactory inputFactory = createInputFactory();
+
+    private final String path;
+    private final String elementName;
+    private final Class<T> elementType;
+    private final InputStream in;
+    private final XMLStreamReader reader;
+    private final Unmarshaller unmarshaller;
+    private final Object event;
+    private final long contextNanos;
+    private boolean insideRoot;
+    private boolean closed;
+
+    XmlElementReader(String path, String elementName, Class<T> elementType)
+            throws JAXBException, IOException {
+        this.path = path;
+        this.elementName = elementName;
+        this.elementType = elementType;
+        this.event = FlightRecorderEvents.beginXmlFileLoad();
+        final long contextStart = event != null ? System.nanoTime() : 0L;
+        this.unmarshaller = JaxbContextCache.getShared().acquireUnmarshaller(elementType);
+        this.contextNanos = event != null ? System.nanoTime() - contextStart : 0L;
+        InputStream stream = null;
+        try {
+            stream = new FileInputStream(path);
+            this.reader = inputFactory.createXMLStreamReader(stream);
+            this.in = stream;
+        } catch (XMLStreamException ex) {
+            stream.close();
+            JaxbContextCache.getShared().releaseUnmarshaller(elementType, unmarshaller);
+            throw new JAXBException("Can't read XML file " + path, ex);
+        } catch (IOException | RuntimeException ex) {
+            if (stream != null) {
+                stream.close();
+            }
+            JaxbContextCache.getShared().releaseUnmarshaller(elementType, unmarshaller);
+            throw ex;
+        }
+    }
+
+    private static XMLInputFactory createInputFactory() {
+        final XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory;
+    }
+
+    /**
+     * Reads next element.
+     *
+     * @return next element, or {@code null} if there are no more elements.
+     * @throws JAXBException if an error occurred when parsing or unmarshalling.
+     */
+    public T read() throws JAXBException {
+        if (closed) {
+            throw new IllegalStateException("reader is closed");
+        }
+        try {
+            while (reader.hasNext()) {
+                switch (reader.getEventType()) {
+                    case XMLStreamConstants.START_ELEMENT:
+                        if (!insideRoot) {
+                            insideRoot = true;
+                            reader.next();
+                        } else if (elementName == null
+                                || elementName.equals(reader.getLocalName())) {
+                            // Leaves the reader past the end of the element.
+                            return unmarshaller.unmarshal(reader, elementType).getValue();
+                        } else {
+                            skipElement();
+                        }
+                        break;
+                    case XMLStreamConstants.END_ELEMENT:
+                        // End of the root element.
+                        insideRoot = false;
+                        reader.next();
+                        break;
+                    default:
+                        reader.next();
+                        break;
+                }
+            }
+            return null;
+        } catch (XMLStreamException ex) {
+            throw new JAXBException("Can't read XML file " + path, ex);
+        }
+    }
+
+    // Moves past the end of the current element.
+    private void skipElement() throws XMLStreamException {
+        int depth = 0;
+        do {
+            final int eventType = reader.next();
+            if (eventType == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (eventType == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        } while (depth >= 0);
+        reader.next();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            reader.close();
+        } catch (XMLStreamException ex) {
+            // Underlying stream is closed anyway.
+        } finally {
+            in.close();
+            JaxbContextCache.getShared().releaseUnmarshaller(elementType, unmarshaller);
+        }
+        if (event != null) {
+            FlightRecorderEvents.endXmlFileOperation(event, path, elementType,
+                    new File(path).length(), contextNanos);
+        }
+    }
+}
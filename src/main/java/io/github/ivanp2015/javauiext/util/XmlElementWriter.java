@@ -0,0 +1,167 @@
+/*
+ * Java UI Extensions project.
+ * https://ivanp2015.github.io/javauiext
+ *
+ * Copyright (c) 2018, Ivan Pizhenko. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Ivan Pizhenko designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Ivan Pizhenko in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package io.github.ivanp2015.javauiext.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Paths;
+import javax.xml.bind.JAXBElement;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Marshaller;
+import javax.xml.bind.annotation.XmlRootElement;
+import javax.xml.namespace.QName;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+
+/**
+ * Writes an XML file, which consists of a root element with child elements,
+ * one child element at a time.
+ *
+ * Each element is marshalled with JAXB into a StAX stream as soon as it is
+ * written, so memory use doesn't depend on the number of elements.
+ * Elements are written to a temporary file, which replaces the target file
+ * when the writer is closed. If writing an element fails, closing the writer
+ * discards the output and leaves the target file intact.
+ *
+ * Instances are created with
+ * {@link JaxbXmlFileSerializer#openXmlElementWriter(String, String, String, Class, FileDurability)}.
+ * This class is not thread-safe.
+ *
+ * @param <T> element type.
+ * @author Ivan Pizhenko
+ * @since 0.1.1
+ */
+public final class XmlElementWriter<T> implements AutoCloseable {
+
+    private static final XMLOutputFactory outputFactory = XMLOutputFactory.newInstance();
+    private static final String ENCODING = "utf-8";
+    private static final String INDENT = "\n    ";
+
+    private final String path;
+    private final Class<T> elementType;
+    private final QName elementName;
+    private final AtomicFileOutput output;
+    private final XMLStreamWriter writer;
+    private final Marshaller marshaller;
+    private final Object event;
+    private final long contextNanos;
+    private boolean closed;
+    private boolean failed;
+
+    XmlElementWriter(String path, String rootElementName, String elementName,
+            Class<T> elementType, FileDurability durability) throws JAXBException, IOException {
+        if (elementName == null && !elementType.isAnnotationPresent(XmlRootElement.class)) {
+            throw new IllegalArgumentException(
+                    "element name is required for the type without @XmlRootElement");
+        }
+        this.path = path;
+        this.elementType = elementType;
+        this.elementName = elementName != null ? new QName(elementName) : null;
+        this.event = FlightRecorderEvents.beginXmlFileSave();
+        final long contextStart = event != null ? System.nanoTime() : 0L;
+        this.marshaller = JaxbContextCache.getShared().acquireMarshaller(elementType);
+        this.contextNanos = event != null ? System.nanoTime() - contextStart : 0L;
+        AtomicFileOutput atomicOutput = null;
+        try {
+            marshaller.setProperty(Marshaller.JAXB_FRAGMENT, true);
+            atomicOutput = new AtomicFileOutput(Paths.get(path), durability);
+            this.writer = outputFactory.createXMLStreamWriter(atomicOutput.getStream(), ENCODING);
+            this.output = atomicOutput;
+            writer.writeStartDocument(ENCODING, "1.0");
+            writer.writeCharacters("\n");
+            writer.writeStartElement(rootElementName);
+        } catch (XMLStreamException ex) {
+            atomicOutput.close();
+            JaxbContextCache.getShared().releaseMarshaller(elementType, marshaller);
+            throw new JAXBException("Can't write XML file " + path, ex);
+        } catch (IOException | JAXBException | RuntimeException ex) {
+            if (atomicOutput != null) {
+                atomicOutput.close();
+            }
+            JaxbContextCache.getShared().releaseMarshaller(elementType, marshaller);
+            throw ex;
+        }
+    }
+
+    /**
+     * Writes next element.
+     *
+     * @param element element.
+     * @throws JAXBException if an error occurred when marshalling.
+     */
+    public void write(T element) throws JAXBException {
+        if (closed) {
+            throw new IllegalStateException("writer is closed");
+        }
+        boolean written = false;
+        try {
+            writer.writeCharacters(INDENT);
+            if (elementName != null) {
+                marshaller.marshal(new JAXBElement<T>(elementName, elementType, element), writer);
+            } else {
+                marshaller.marshal(element, writer);
+            }
+            written = true;
+        } catch (XMLStreamException ex) {
+            throw new JAXBException("Can't write XML file " + path, ex);
+        } finally {
+            failed |= !written;
+        }
+    }
+
+    /**
+     * Completes the file and replaces the target file with it, or, if
+     * writing some element failed, discards the file.
+     *
+     * @throws IOException if I/O error happened.
+     * @throws JAXBException if an error occurred when completing the document.
+     */
+    @Override
+    public void close() throws IOException, JAXBException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            if (!failed) {
+                writer.writeCharacters("\n");
+                writer.writeEndElement();
+                writer.writeEndDocument();
+                writer.close();
+                output.commit();
+            }
+        } catch (XMLStreamException ex) {
+            throw new JAXBException("Can't write XML file " + path, ex);
+        } finally {
+            output.close();
+            JaxbContextCache.getShared().releaseMarshaller(elementType, marshaller);
+        }
+        if (event != null && !failed) {
+            FlightRecorderEvents.endXmlFileOperation(event, path, elementType,
+                    new File(path).length(), contextNanos);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Java UI Extensions project.
+ * https://ivanp2015.github.io/javauiext
+ *
+ * Copyright (c) 2018, Ivan Pizhenko. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Ivan Pizhenko designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Ivan Pizhenko in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package io.github.ivanp2015.javauiext.util;
+
+import java.io.File;
+import java.util.List;
+import java.util.concurrent.RecursiveAction;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Unmarshaller;
+
+/**
+ * Loads XML files in parallel. Files are split into ranges, which are
+ * loaded by a fork-join pool, each range with a single unmarshaller taken
+ * from the shared {@link JaxbContextCache}. Failure to load a file only
+ * affects its own result.
+ *
+ * @param <T> object type.
+ * @author Ivan Pizhenko
+ * @since 0.1.1
+ */
+final class XmlFileBulkLoader<T> extends RecursiveAction {
+    private static final long serialVersionUID = 1L;
+
+    private static final int THRESHOLD = 4;
+
+    private final String[] paths;
+    private final Class<T> clazz;
+    private final List<XmlFileLoadResult<T>> results;
+    private final int from;
+    private final int to;
+
+    XmlFileBulkLoader(String[] paths, Class<T> clazz, List<XmlFileLoadResult<T>> results,
+            int from, int to) {
+        this.paths = paths;
+        this.clazz = clazz;
+        this.results = results;
+        this.from = from;
+        this.to = to;
+    }
+
+    @Override
+    protected void compute() {
+        if (to - from <= THRESHOLD) {
+            load();
+        } else {
+            final int mid = (from + to) >>> 1;
+            invokeAll(new XmlFileBulkLoader<>(paths, clazz, results, from, mid),
+                    new XmlFileBulkLoader<>(paths, clazz, results, mid, to));
+        }
+    }
+
+    private void load() {
+        final JaxbContextCache cache = JaxbContextCache.getShared();
+        Unmarshaller unmarshaller = null;
+        for (int i = from; i < to; i++) {
+            final String path = paths[i];
+            final Object event = FlightRecorderEvents.beginXmlFileLoad();
+            try {
+                if (unmarshaller == null) {
+                    unmarshaller = cache.acquireUnmarshaller(clazz);
+                }
+                final File file = new File(path);
+                final T value = clazz.cast(unmarshaller.unmarshal(file));
+                results.set(i, new XmlFileLoadResult<>(path, value, null));
+                if (event != null) {
+                    FlightRecorderEvents.endXmlFileOperation(event, path, clazz, file.length(), 0L);
+                }
+            } catch (JAXBException | RuntimeException ex) {
+                results.set(i, new XmlFileLoadResult<>(path, null, ex));
+                // Unmarshaller state after a failure is unknown, don't reuse it.
+                unmarshaller = null;
+            }
+        }
+        if (unmarshaller != null) {
+            cache.releaseUnmarshaller(clazz, unmarshaller);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Java UI Extensions project.
+ * https://ivanp2015.github.io/javauiext
+ *
+ * Copyright (c) 2018, Ivan Pizhenko. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Ivan Pizhenko designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Ivan Pizhenko in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package io.github.ivanp2015.javauiext.util;
+
+/**
+ * Outcome of loading one file by a bulk load of
+ * {@link JaxbXmlFileSerializer}: either the loaded object or the error,
+ * which prevented loading it.
+ *
+ * @param <T> object type.
+ * @author Ivan Pizhenko
+ * @since 0.1.1
+ */
+public final class XmlFileLoadResult<T> {
+
+    private final String path;
+    private final T value;
+    private final Exception error;
+
+    XmlFileLoadResult(String path, T value, Exception error) {
+        this.path = path;
+        this.value = value;
+        this.error = error;
+    }
+
+    /**
+     * Returns path of the file.
+     *
+     * @return data file path.
+     */
+    public String getPath() {
+        return path;
+    }
+
+    /**
+     * Returns whether the file is loaded.
+     *
+     * @return {@code true} if the file is loaded, {@code false} if there was an error.
+     */
+    public boolean isLoaded() {
+        return error == null;
+    }
+
+    /**
+     * Returns the loaded object.
+     *
+     * @return loaded object, or {@code null} if there was an error.
+     */
+    public T getValue() {
+        return value;
+    }
+
+    /**
+     * Returns error, which prevented loading the file.
+     *
+     * @return {@link javax.xml.bind.JAXBException} or a runtime exception,
+     *         or {@code null} if the file is loaded.
+     */
+    public Exception getError() {
+        return error;
+    }
+
+    @Override
+    public String toString() {
+        return "XmlFileLoadResult[path=" + path + (error == null
+                ? ", value=" + value : ", error=" + error) + "]";
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * Java UI Extensions project.
+ * https://ivanp2015.github.io/javauiext
+ *
+ * Copyright (c) 2018, Ivan Pizhenko. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Ivan Pizhenko designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Ivan Pizhenko in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package io.github.ivanp2015.javauiext.util;
+
+import java.lang.reflect.Method;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs asynchronous XML file operations of {@link JaxbXmlFileSerializer}.
+ *
+ * Operations run on a bounded pool of daemon threads by default.
+ * Writes to the same file run one after another, in the order they were
+ * requested, and reads of a file start after the writes to it requested
+ * earlier are complete.
+ *
+ * @author Ivan Pizhenko
+ * @since 0.1.1
+ */
+final class XmlFileTasks {
+
+    private static final int DEFAULT_THREAD_COUNT = 2;
+
+    private static final Object executorLock = new Object();
+    private static Executor executor;
+    private static ExecutorService defaultExecutor;
+    private static ExecutorService virtualThreadExecutor;
+
+    // Last write requested for each file, until it completes.
+    private static final Map<Path, CompletableFuture<Void>> pendingWrites = new HashMap<>();
+
+    private XmlFileTasks() {}
+
+    /**
+     * Task, which may throw checked exceptions.
+     *
+     * @param <T> result type.
+     */
+    interface Task<T> {
+        T run() throws Exception;
+    }
+
+    static Executor getExecutor() {
+        synchronized(executorLock) {
+            if (executor == null) {
+                if (defaultExecutor == null) {
+                    final ThreadPoolExecutor pool = new ThreadPoolExecutor(
+                            DEFAULT_THREAD_COUNT, DEFAULT_THREAD_COUNT, 30, TimeUnit.SECONDS,
+                            new LinkedBlockingQueue<Runnable>(), new XmlFileThreadFactory());
+                    pool.allowCoreThreadTimeOut(true);
+                    defaultExecutor = pool;
+                }
+                return defaultExecutor;
+            }
+            return executor;
+        }
+    }
+
+    static void setExecutor(Executor newExecutor) {
+        synchronized(executorLock) {
+            executor = newExecutor;
+        }
+    }
+
+    static boolean useVirtualThreads() {
+        synchronized(executorLock) {
+            if (virtualThreadExecutor == null) {
+                virtualThreadExecutor = createVirtualThreadExecutor();
+                if (virtualThreadExecutor == null) {
+                    return false;
+                }
+            }
+            executor = virtualThreadExecutor;
+            return true;
+        }
+    }
+
+    // Virtual threads are available since Java 21, while this library
+    // targets Java 8, so the executor factory is looked up by reflection.
+    private static ExecutorService createVirtualThreadExecutor() {
+        try {
+            final Method factory = java.util.concurrent.Executors.class
+                    .getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException | RuntimeException ex) {
+            return null;
+        }
+    }
+
+    static <T> CompletableFuture<T> read(String path, Task<T> task) {
+        final Path key = toKey(path);
+        final CompletableFuture<Void> previous;
+        synchronized(pendingWrites) {
+            previous = pendingWrites.get(key);
+        }
+        return after(previous, task);
+    }
+
+    static CompletableFuture<Void> write(String path, final Task<Void> task) {
+        final Path key = toKey(path);
+        final CompletableFuture<Void> result;
+        synchronized(pendingWrites) {
+            result = after(pendingWrites.get(key), task);
+            pendingWrites.put(key, result);
+        }
+        result.whenComplete((value, ex) -> {
+            synchronized(pendingWrites) {
+                pendingWrites.remove(key, result);
+            }
+        });
+        return result;
+    }
+
+    private static Path toKey(String path) {
+        return Paths.get(path).toAbsolutePath().normalize();
+    }
+
+    // Runs task once the previous operation completes, whatever its outcome.
+    private static <T> CompletableFuture<T> after(CompletableFuture<?> previous,
+            final Task<T> task) {
+        final CompletableFuture<?> start = previous != null
+                ? previous.handle((value, ex) -> null) : CompletableFuture.completedFuture(null);
+        return start.thenApplyAsync(ignored -> {
+            try {
+                return task.run();
+            } catch (RuntimeException ex) {
+                throw ex;
+            } catch (Exception ex) {
+                throw new CompletionException(ex);
+            }
+        }, getExecutor());
+    }
+
+    private static final class XmlFileThreadFactory implements ThreadFactory {
+        private final AtomicInteger threadNumber = new AtomicInteger(1);
+
+        @Override
+        public Thread newThread(Runnable r) {
+            final Thread thread = new Thread(r, "XmlFileSerializer-" + threadNumber.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
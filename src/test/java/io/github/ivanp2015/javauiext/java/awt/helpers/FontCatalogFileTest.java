@@ -0,0 +1,159 @@
+/*
+ * Java UI Extensions project.
+ * https://ivanp2015.github.io/javauiext
+ *
+ * Copyright (c) 2018, Ivan Pizhenko. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Ivan Pizhenko designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Ivan Pizhenko in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package io.github.ivanp2015.javauiext.java.awt.helpers;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link FontCatalogFile}. Any malformed or stale file must be
+ * reported as a cache miss, so that font families get enumerated again.
+ *
+ * @author Ivan Pizhenko
+ * @since 0.1.1
+ */
+public class FontCatalogFileTest {
+
+    private static final long FINGERPRINT = 0x0123456789ABCDEFL;
+    private static final String[] NAMES = {"Serif", "Corporate Sans", "\u5b8b\u4f53", ""};
+    private static final int[] METADATA = {
+        FontMetadataIndexer.INDEXED | 1, FontMetadataIndexer.INDEXED, FontMetadataIndexer.INDEXED | 6,
+        FontMetadataIndexer.INDEXED
+    };
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void writtenCatalogIsReadBack() throws IOException {
+        final Path file = writeCatalog();
+        final FontFamilyCatalog catalog = FontCatalogFile.read(file, FINGERPRINT);
+        assertNotNull(catalog);
+        assertArrayEquals(NAMES, catalog.toArray());
+        assertEquals(FINGERPRINT, catalog.getFingerprint());
+        assertTrue(catalog.isMetadataIndexed());
+        for (int i = 0; i < NAMES.length; i++) {
+            assertEquals(METADATA[i], catalog.getMetadata(i));
+        }
+    }
+
+    @Test
+    public void emptyCatalogIsReadBack() throws IOException {
+        final Path file = folder.getRoot().toPath().resolve("fonts.bin");
+        FontCatalogFile.write(file, new FontFamilyCatalog(new String[0], new int[0], FINGERPRINT));
+        final FontFamilyCatalog catalog = FontCatalogFile.read(file, FINGERPRINT);
+        assertNotNull(catalog);
+        assertEquals(0, catalog.size());
+    }
+
+    @Test
+    public void missingFileIsMiss() {
+        assertNull(FontCatalogFile.read(folder.getRoot().toPath().resolve("fonts.bin"), FINGERPRINT));
+    }
+
+    @Test
+    public void differentFingerprintIsMiss() throws IOException {
+        final Path file = writeCatalog();
+        assertNull(FontCatalogFile.read(file, FINGERPRINT + 1));
+    }
+
+    @Test
+    public void truncatedFileIsMiss() throws IOException {
+        final Path file = writeCatalog();
+        final byte[] content = Files.readAllBytes(file);
+        for (int length : new int[] {0, 3, 19, 20, 25, content.length - 1}) {
+            Files.write(file, Arrays.copyOf(content, length));
+            assertNull("length " + length, FontCatalogFile.read(file, FINGERPRINT));
+        }
+    }
+
+    @Test
+    public void badMagicIsMiss() throws IOException {
+        final Path file = writeCatalog();
+        patchInt(file, 0, 0x12345678);
+        assertNull(FontCatalogFile.read(file, FINGERPRINT));
+    }
+
+    @Test
+    public void unknownVersionIsMiss() throws IOException {
+        final Path file = writeCatalog();
+        patchInt(file, 4, 2);
+        assertNull(FontCatalogFile.read(file, FINGERPRINT));
+    }
+
+    @Test
+    public void excessiveFamilyCountIsMiss() throws IOException {
+        final Path file = writeCatalog();
+        patchInt(file, 16, Integer.MAX_VALUE);
+        assertNull(FontCatalogFile.read(file, FINGERPRINT));
+        patchInt(file, 16, -1);
+        assertNull(FontCatalogFile.read(file, FINGERPRINT));
+        patchInt(file, 16, NAMES.length + 1);
+        assertNull(FontCatalogFile.read(file, FINGERPRINT));
+    }
+
+    @Test
+    public void malformedFileIsRewrittenByEnumeration() throws IOException {
+        final Path file = folder.getRoot().toPath().resolve("fonts.bin");
+        Files.write(file, new byte[] {0x4A, 0x55, 0x49});
+        final Path savedFile = FontFamilyCatalog.getCacheFile();
+        FontFamilyCatalog.setCacheFile(file);
+        try {
+            FontFamilyCatalog.invalidate();
+            final FontFamilyCatalog catalog = FontFamilyCatalog.getInstance();
+            assertFalse(catalog.getFamilyNames().isEmpty());
+            final FontFamilyCatalog stored = FontCatalogFile.read(file, catalog.getFingerprint());
+            assertNotNull(stored);
+            assertEquals(catalog.getFamilyNames(), stored.getFamilyNames());
+        } finally {
+            FontFamilyCatalog.setCacheFile(savedFile);
+            FontFamilyCatalog.invalidate();
+        }
+    }
+
+    private Path writeCatalog() throws IOException {
+        final Path file = folder.getRoot().toPath().resolve("fonts.bin");
+        FontCatalogFile.write(file, new FontFamilyCatalog(NAMES.clone(), METADATA.clone(), FINGERPRINT));
+        return file;
+    }
+
+    private static void patchInt(Path file, int offset, int value) throws IOException {
+        final byte[] content = Files.readAllBytes(file);
+        ByteBuffer.wrap(content).putInt(offset, value);
+        Files.write(file, content);
+    }
+}
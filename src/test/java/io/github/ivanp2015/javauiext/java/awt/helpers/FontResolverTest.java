@@ -0,0 +1,101 @@
+/*
+ * Java UI Extensions project.
+ * https://ivanp2015.github.io/javauiext
+ *
+ * Copyright (c) 2018, Ivan Pizhenko. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Ivan Pizhenko designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Ivan Pizhenko in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package io.github.ivanp2015.javauiext.java.awt.helpers;
+
+import java.awt.Font;
+import org.junit.Test;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Tests for {@link FontResolver}. Logical font families, which are always
+ * installed, stand for installed families.
+ *
+ * @author Ivan Pizhenko
+ * @since 0.1.1
+ */
+public class FontResolverTest {
+
+    private final FontResolver resolver = new FontResolver();
+
+    @Test
+    public void installedFamilyIsFoundIgnoringCase() {
+        assertEquals(Font.SERIF, resolver.resolveFamily("serif"));
+        assertEquals(Font.MONOSPACED, resolver.resolveFamily("MONOSPACED"));
+        assertNull(resolver.resolveFamily("No Such Family"));
+        assertNull(resolver.resolveFamily(null));
+    }
+
+    @Test
+    public void fallbackChainsAreTriedInOrder() {
+        resolver.setFallbackChain("Corporate Sans", "Missing One", "Corporate Mono", "Serif");
+        resolver.setFallbackChain("corporate mono", "Missing Two", "Monospaced");
+        assertEquals(Font.MONOSPACED, resolver.resolveFamily("Corporate Sans"));
+        assertEquals(Font.MONOSPACED, resolver.resolveFamily("CORPORATE MONO"));
+        assertArrayEquals(new String[] {"Missing Two", "Monospaced"},
+                resolver.getFallbackChain("Corporate Mono"));
+    }
+
+    @Test
+    public void defaultChainIsTriedLast() {
+        resolver.setFallbackChain("Corporate Sans", "Missing One");
+        resolver.setDefaultFallbackChain("Missing Two", "SansSerif");
+        assertEquals(Font.SANS_SERIF, resolver.resolveFamily("Corporate Sans"));
+        assertEquals(Font.SANS_SERIF, resolver.resolveFamily("No Such Family"));
+        assertEquals(Font.SERIF, resolver.resolveFamily("Serif"));
+    }
+
+    @Test
+    public void cyclicChainsTerminate() {
+        resolver.setFallbackChain("A", "B");
+        resolver.setFallbackChain("B", "C", "A");
+        resolver.setFallbackChain("C", "C", "B");
+        assertNull(resolver.resolveFamily("A"));
+        resolver.setDefaultFallbackChain("A", "Dialog");
+        assertEquals(Font.DIALOG, resolver.resolveFamily("B"));
+    }
+
+    @Test
+    public void changedChainsReplaceCachedResults() {
+        resolver.setFallbackChain("Corporate Sans", "Serif");
+        assertEquals(Font.SERIF, resolver.resolveFamily("Corporate Sans"));
+        resolver.setFallbackChain("Corporate Sans", "Monospaced");
+        assertEquals(Font.MONOSPACED, resolver.resolveFamily("Corporate Sans"));
+        resolver.setFallbackChain("Corporate Sans");
+        assertNull(resolver.resolveFamily("Corporate Sans"));
+        resolver.setDefaultFallbackChain("Dialog");
+        assertEquals(Font.DIALOG, resolver.resolveFamily("Corporate Sans"));
+    }
+
+    @Test
+    public void resolvedFontUsesInstalledFamily() {
+        resolver.setFallbackChain("Corporate Mono", "Monospaced");
+        final Font font = resolver.resolveFont("Corporate Mono", Font.BOLD, 14);
+        assertEquals(Font.MONOSPACED, font.getFamily());
+        assertEquals(Font.BOLD, font.getStyle());
+        assertEquals(14, font.getSize());
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Java UI Extensions project.
+ * https://ivanp2015.github.io/javauiext
+ *
+ * Copyright (c) 2018, Ivan Pizhenko. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Ivan Pizhenko designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Ivan Pizhenko in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package io.github.ivanp2015.javauiext.javax.swing;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import javax.swing.event.ListDataEvent;
+import javax.swing.event.ListDataListener;
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests for {@link FontFamilyFilterModel}.
+ *
+ * @author Ivan Pizhenko
+ * @since 0.1.1
+ */
+public class FontFamilyFilterModelTest {
+
+    private final FontFamilyFilterModel model = new FontFamilyFilterModel(
+            new SharedListModel(new String[] {"Arial", "Dialog", "Serif", "SansSerif", "Monospaced"}),
+            JFontChooser.FontFamilyFilterMode.SUBSTRING);
+    private final List<String> events = new ArrayList<>();
+
+    @Before
+    public void setUp() {
+        model.addListDataListener(new ListDataListener() {
+            @Override
+            public void intervalAdded(ListDataEvent e) {
+                record("added", e);
+            }
+
+            @Override
+            public void intervalRemoved(ListDataEvent e) {
+                record("removed", e);
+            }
+
+            @Override
+            public void contentsChanged(ListDataEvent e) {
+                record("changed", e);
+            }
+        });
+    }
+
+    @Test
+    public void narrowingFilterRemovesRows() {
+        model.setFilterText("serif");
+        assertEquals(2, model.getSize());
+        assertEquals(Arrays.asList("removed 2-4", "changed 0-1"), events);
+    }
+
+    @Test
+    public void wideningFilterAddsRows() {
+        model.setFilterText("serif");
+        events.clear();
+        model.setFilterText("");
+        assertEquals(5, model.getSize());
+        assertEquals(Arrays.asList("added 2-4", "changed 0-1"), events);
+    }
+
+    @Test
+    public void sameSizeChangesContentsOnly() {
+        model.setFilterText("ser");
+        events.clear();
+        model.setFilterText("ia");
+        assertEquals(2, model.getSize());
+        assertEquals("Dialog", model.getElementAt(1));
+        assertEquals(Arrays.asList("changed 0-1"), events);
+    }
+
+    @Test
+    public void emptyResultRemovesAllRows() {
+        model.setFilterText("none");
+        assertEquals(0, model.getSize());
+        assertEquals(Arrays.asList("removed 0-4"), events);
+        events.clear();
+        model.setFilterText("nonexistent");
+        assertEquals(Arrays.asList(), events);
+    }
+
+    private void record(String type, ListDataEvent e) {
+        events.add(type + " " + e.getIndex0() + "-" + e.getIndex1());
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Java UI Extensions project.
+ * https://ivanp2015.github.io/javauiext
+ *
+ * Copyright (c) 2018, Ivan Pizhenko. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Ivan Pizhenko designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Ivan Pizhenko in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package io.github.ivanp2015.javauiext.javax.swing;
+
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link FontSizeListModel}.
+ *
+ * @author Ivan Pizhenko
+ * @since 0.1.1
+ */
+public class FontSizeListModelTest {
+
+    private final FontSizeListModel model = FontSizeListModel.parse(
+            new String[] {"8", "10.5", "12", "9", "11.25", "72"});
+
+    @Test
+    public void indexOfFindsFractionalSizes() {
+        assertEquals(0, model.indexOf(8f));
+        assertEquals(1, model.indexOf(10.5f));
+        assertEquals(3, model.indexOf(9f));
+        assertEquals(4, model.indexOf(11.25f));
+        assertEquals(-1, model.indexOf(10f));
+        assertEquals(-1, model.indexOf(11.5f));
+    }
+
+    @Test
+    public void indexOfNearestFindsClosestSize() {
+        assertEquals(0, model.indexOfNearest(1f));
+        assertEquals(0, model.indexOfNearest(8.4f));
+        assertEquals(3, model.indexOfNearest(8.6f));
+        assertEquals(1, model.indexOfNearest(10.6f));
+        assertEquals(4, model.indexOfNearest(11.3f));
+        assertEquals(2, model.indexOfNearest(11.75f));
+        assertEquals(5, model.indexOfNearest(100f));
+        // Of two equally close sizes, the smaller one.
+        assertEquals(3, model.indexOfNearest(9.75f));
+        assertEquals(-1, new FontSizeListModel(new float[0]).indexOfNearest(12f));
+    }
+
+    @Test
+    public void parseSkipsInvalidSizes() {
+        final FontSizeListModel parsed = FontSizeListModel.parse(
+                new String[] {"abc", "10", "", "-2", "0", "12.5", "Infinity"});
+        assertEquals(2, parsed.getSize());
+        assertEquals("10", parsed.getElementAt(0));
+        assertEquals(12.5f, parsed.getFontSize(1), 0f);
+    }
+
+    @Test
+    public void parseAndFormatSizes() {
+        assertEquals(10.5f, FontSizeListModel.parse(" 10.5 "), 0f);
+        assertTrue(Float.isNaN(FontSizeListModel.parse("ten")));
+        assertTrue(Float.isNaN(FontSizeListModel.parse((CharSequence) null)));
+        assertEquals("12", FontSizeListModel.format(12f));
+        assertEquals("10.5", FontSizeListModel.format(10.5f));
+    }
+
+    @Test
+    public void labelsAreKept() {
+        assertEquals(6, model.getSize());
+        assertEquals("10.5", model.getElementAt(1));
+        assertEquals(11.25f, model.getFontSize(4), 0f);
+    }
+}
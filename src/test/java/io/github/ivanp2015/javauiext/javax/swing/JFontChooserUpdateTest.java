@@ -0,0 +1,180 @@
+/*
+ * Java UI Extensions project.
+ * https://ivanp2015.github.io/javauiext
+ *
+ * Copyright (c) 2018, Ivan Pizhenko. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Ivan Pizhenko designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Ivan Pizhenko in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package io.github.ivanp2015.javauiext.javax.swing;
+
+import java.awt.Font;
+import java.lang.reflect.InvocationTargetException;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.swing.SwingUtilities;
+import javax.swing.event.ChangeEvent;
+import javax.swing.event.ChangeListener;
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for the selection updates of {@link JFontChooser}.
+ *
+ * @author Ivan Pizhenko
+ * @since 0.1.1
+ */
+public class JFontChooserUpdateTest {
+
+    private JFontChooser chooser;
+    private final AtomicInteger changes = new AtomicInteger();
+
+    @Before
+    public void setUp() throws Throwable {
+        onEventDispatchThread(new Runnable() {
+            @Override
+            public void run() {
+                chooser = new JFontChooser(new Font("Serif", Font.PLAIN, 12));
+            }
+        });
+        // Let updates scheduled by the constructor complete.
+        onEventDispatchThread(new Runnable() {
+            @Override
+            public void run() {
+                chooser.addChangeListener(new ChangeListener() {
+                    @Override
+                    public void stateChanged(ChangeEvent e) {
+                        changes.incrementAndGet();
+                    }
+                });
+            }
+        });
+    }
+
+    @Test
+    public void updateSendsSingleChangeEvent() throws Throwable {
+        onEventDispatchThread(new Runnable() {
+            @Override
+            public void run() {
+                chooser.beginUpdate();
+                try {
+                    chooser.setSelectedFontFamily("Monospaced");
+                    chooser.setSelectedFontStyle(Font.BOLD);
+                    chooser.setSelectedFontSize(20);
+                    assertTrue(chooser.isUpdating());
+                    assertEquals(0, changes.get());
+                } finally {
+                    chooser.endUpdate();
+                }
+                assertFalse(chooser.isUpdating());
+                assertEquals(1, changes.get());
+                assertEquals("Monospaced", chooser.getSelectedFontFamily());
+                assertEquals(Font.BOLD, chooser.getSelectedFontStyle());
+                assertEquals(20, chooser.getSelectedFontSize());
+                assertEquals("Monospaced", chooser.getFontFamilyTextField().getText());
+                assertEquals("20", chooser.getFontSizeTextField().getText());
+            }
+        });
+        onEventDispatchThread(new Runnable() {
+            @Override
+            public void run() {
+                assertEquals(1, changes.get());
+            }
+        });
+    }
+
+    @Test
+    public void nestedUpdateAppliesChangesAtOutermostEnd() throws Throwable {
+        onEventDispatchThread(new Runnable() {
+            @Override
+            public void run() {
+                chooser.beginUpdate();
+                chooser.beginUpdate();
+                chooser.setSelectedFontSize(24);
+                chooser.endUpdate();
+                assertTrue(chooser.isUpdating());
+                assertEquals(0, changes.get());
+                chooser.endUpdate();
+                assertEquals(1, changes.get());
+                assertEquals(24, chooser.getSelectedFont().getSize());
+            }
+        });
+    }
+
+    @Test
+    public void unchangedFontSendsNoChangeEvent() throws Throwable {
+        onEventDispatchThread(new Runnable() {
+            @Override
+            public void run() {
+                chooser.setSelectedFont(chooser.getSelectedFont());
+                assertEquals(0, changes.get());
+            }
+        });
+    }
+
+    @Test
+    public void invalidSizeTextIsReplacedWithSelectedSize() throws Throwable {
+        onEventDispatchThread(new Runnable() {
+            @Override
+            public void run() {
+                chooser.setSelectedFontSize(14);
+                chooser.getFontSizeTextField().setText("large");
+                assertEquals(14f, chooser.getSelectedFontSize2D(), 0f);
+                assertEquals("14", chooser.getFontSizeTextField().getText());
+            }
+        });
+    }
+
+    @Test
+    public void invalidSizesAreIgnored() throws Throwable {
+        onEventDispatchThread(new Runnable() {
+            @Override
+            public void run() {
+                chooser.setSelectedFontSize(10.5f);
+                chooser.setSelectedFontSize(0);
+                chooser.setSelectedFontSize(-3f);
+                assertEquals(10.5f, chooser.getSelectedFontSize2D(), 0f);
+                final JFontChooser custom = new JFontChooser(null,
+                        new String[] {"10", "huge", "20"});
+                assertEquals(2, custom.getFontSizeList().getModel().getSize());
+            }
+        });
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void endUpdateWithoutBeginUpdateFails() throws Throwable {
+        onEventDispatchThread(new Runnable() {
+            @Override
+            public void run() {
+                chooser.endUpdate();
+            }
+        });
+    }
+
+    // Runs on the event dispatch thread, rethrowing assertion errors and exceptions.
+    private static void onEventDispatchThread(Runnable runnable) throws Throwable {
+        try {
+            SwingUtilities.invokeAndWait(runnable);
+        } catch (InvocationTargetException ex) {
+            throw ex.getCause();
+        }
+    }
+}
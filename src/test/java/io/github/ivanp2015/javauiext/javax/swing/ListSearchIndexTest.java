@@ -0,0 +1,124 @@
+/*
+ * Java UI Extensions project.
+ * https://ivanp2015.github.io/javauiext
+ *
+ * Copyright (c) 2018, Ivan Pizhenko. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Ivan Pizhenko designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Ivan Pizhenko in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package io.github.ivanp2015.javauiext.javax.swing;
+
+import java.util.Arrays;
+import java.util.Random;
+import javax.swing.JList;
+import javax.swing.text.Position;
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link ListSearchIndex}.
+ *
+ * @author Ivan Pizhenko
+ * @since 0.1.1
+ */
+public class ListSearchIndexTest {
+
+    private static final String[] FAMILIES = {
+        "Serif", "SansSerif", "Monospaced", "Dialog", "DialogInput",
+        "DejaVu Sans", "DejaVu Sans Mono", "dejavu serif", "Arial", "ARIAL Black",
+        "Courier New", "Courier", "Times New Roman", "\u00C9l\u00E9gant", "\u00E9l\u00E9gant Bold",
+        "\u0410\u0440\u0438\u0430\u043B", "\u0430\u0440\u0438\u0430\u043B Narrow", "", "Z", "z"
+    };
+
+    @Test
+    public void findMatchesGetNextMatch() {
+        final JList<String> list = new JList<>(FAMILIES);
+        final ListSearchIndex.Cursor cursor = ListSearchIndex.create(list.getModel()).newCursor();
+        for (String family : FAMILIES) {
+            for (int length = 1; length <= family.length(); length++) {
+                final String prefix = family.substring(0, length);
+                assertFind(list, cursor, prefix);
+                assertFind(list, cursor, prefix.toUpperCase());
+                assertFind(list, cursor, prefix.toLowerCase());
+            }
+        }
+        for (String query : new String[] {"x", "Serifs", "DejaVu Sans Mono Bold", "\u0411"}) {
+            assertFind(list, cursor, query);
+        }
+    }
+
+    @Test
+    public void randomTypingMatchesGetNextMatch() {
+        final Random random = new Random(42);
+        final String alphabet = "aAbBdDeEiIjJlLmMnNoOsSuUvV \u00E9\u00C9\u0430\u0410";
+        final String[] elements = new String[300];
+        for (int i = 0; i < elements.length; i++) {
+            elements[i] = randomString(random, alphabet, 1 + random.nextInt(6));
+        }
+        final JList<String> list = new JList<>(elements);
+        final ListSearchIndex.Cursor cursor = ListSearchIndex.create(Arrays.asList(elements))
+                .newCursor();
+        final StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 2000; i++) {
+            // Type, erase or replace the text, as a user of the text field would.
+            final int action = random.nextInt(10);
+            if (action < 6 || text.length() == 0) {
+                text.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            } else if (action < 9) {
+                text.setLength(text.length() - 1);
+            } else {
+                text.setLength(0);
+                text.append(elements[random.nextInt(elements.length)]);
+            }
+            if (text.length() > 0) {
+                assertFind(list, cursor, text.toString());
+            }
+        }
+    }
+
+    @Test
+    public void exactMatchIgnoresCase() {
+        final ListSearchIndex.Cursor cursor = ListSearchIndex.create(Arrays.asList(FAMILIES))
+                .newCursor();
+        assertEquals(8, cursor.find("arial"));
+        assertTrue(cursor.isExactMatch());
+        assertEquals(5, cursor.find("DEJAVU SANS"));
+        assertTrue(cursor.isExactMatch());
+        assertEquals(5, cursor.find("DejaVu S"));
+        assertFalse(cursor.isExactMatch());
+        cursor.reset();
+        assertEquals(-1, cursor.find("Helvetica"));
+        assertFalse(cursor.isExactMatch());
+    }
+
+    private static void assertFind(JList<String> list, ListSearchIndex.Cursor cursor,
+            String text) {
+        assertEquals(text, list.getNextMatch(text, 0, Position.Bias.Forward), cursor.find(text));
+    }
+
+    private static String randomString(Random random, String alphabet, int length) {
+        final char[] chars = new char[length];
+        for (int i = 0; i < length; i++) {
+            chars[i] = alphabet.charAt(random.nextInt(alphabet.length()));
+        }
+        return new String(chars);
+    }
+}
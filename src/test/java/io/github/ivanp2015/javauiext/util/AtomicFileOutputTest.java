@@ -0,0 +1,125 @@
+/*
+ * Java UI Extensions project.
+ * https://ivanp2015.github.io/javauiext
+ *
+ * Copyright (c) 2018, Ivan Pizhenko. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Ivan Pizhenko designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Ivan Pizhenko in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package io.github.ivanp2015.javauiext.util;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Set;
+import java.util.stream.Stream;
+import org.junit.Assume;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+/**
+ * Tests for {@link AtomicFileOutput}.
+ *
+ * @author Ivan Pizhenko
+ * @since 0.1.1
+ */
+public class AtomicFileOutputTest {
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void commitReplacesContent() throws IOException {
+        final Path file = folder.getRoot().toPath().resolve("data.xml");
+        Files.write(file, bytes("old"));
+        write(file, "new", true);
+        assertArrayEquals(bytes("new"), Files.readAllBytes(file));
+        assertEquals(1L, countFiles());
+    }
+
+    @Test
+    public void closeWithoutCommitKeepsTargetAndRemovesTempFile() throws IOException {
+        final Path file = folder.getRoot().toPath().resolve("data.xml");
+        Files.write(file, bytes("old"));
+        write(file, "new", false);
+        assertArrayEquals(bytes("old"), Files.readAllBytes(file));
+        assertEquals(1L, countFiles());
+    }
+
+    @Test
+    public void closeWithoutCommitDoesNotCreateTarget() throws IOException {
+        final Path file = folder.getRoot().toPath().resolve("sub").resolve("data.xml");
+        write(file, "new", false);
+        assertFalse(Files.exists(file));
+        assertEquals(0L, countFiles());
+    }
+
+    @Test
+    public void commitKeepsPermissionsOfExistingFile() throws IOException {
+        assumePosix();
+        final Path file = folder.getRoot().toPath().resolve("data.xml");
+        Files.write(file, bytes("old"));
+        for (String mode : new String[] {"rw-r--r--", "rw-r-----", "rw-rw-r--"}) {
+            final Set<PosixFilePermission> permissions = PosixFilePermissions.fromString(mode);
+            Files.setPosixFilePermissions(file, permissions);
+            write(file, mode, true);
+            assertEquals(permissions, Files.getPosixFilePermissions(file));
+        }
+    }
+
+    @Test
+    public void commitCreatesFileWithDefaultPermissions() throws IOException {
+        assumePosix();
+        final Path reference = folder.newFile("reference.xml").toPath();
+        final Path file = folder.getRoot().toPath().resolve("data.xml");
+        write(file, "new", true);
+        assertEquals(Files.getPosixFilePermissions(reference), Files.getPosixFilePermissions(file));
+    }
+
+    private static void write(Path file, String content, boolean commit) throws IOException {
+        try (final AtomicFileOutput output = new AtomicFileOutput(file, FileDurability.NO_SYNC)) {
+            output.getStream().write(bytes(content));
+            if (commit) {
+                output.commit();
+            }
+        }
+    }
+
+    private long countFiles() throws IOException {
+        try (final Stream<Path> files = Files.walk(folder.getRoot().toPath())) {
+            return files.filter(Files::isRegularFile).count();
+        }
+    }
+
+    private static void assumePosix() {
+        Assume.assumeTrue(FileSystems.getDefault().supportedFileAttributeViews().contains("posix"));
+    }
+
+    private static byte[] bytes(String s) {
+        return s.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Java UI Extensions project.
+ * https://ivanp2015.github.io/javauiext
+ *
+ * Copyright (c) 2018, Ivan Pizhenko. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Ivan Pizhenko designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Ivan Pizhenko in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package io.github.ivanp2015.javauiext.util;
+
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link CaseInsensitiveStringIndex}.
+ *
+ * @author Ivan Pizhenko
+ * @since 0.1.1
+ */
+public class CaseInsensitiveStringIndexTest {
+
+    private static final String[] STRINGS = {
+        "Serif", "SansSerif", "DIALOG", "dialoginput", null, "\u00C9l\u00E9gant",
+        "\u0410\u0440\u0438\u0430\u043B", "Stra\u00DFe", "TITLE", "\u03A3\u03B9\u03B3\u03BC\u03B1"
+    };
+
+    @Test
+    public void lookupIgnoresCase() {
+        final CaseInsensitiveStringIndex index = new CaseInsensitiveStringIndex(STRINGS);
+        assertEquals(STRINGS.length, index.size());
+        assertEquals(0, index.indexOf("serif"));
+        assertEquals(1, index.indexOf("SANSSERIF"));
+        assertEquals(2, index.indexOf("Dialog"));
+        assertEquals(3, index.indexOf(new StringBuilder("DialogInput")));
+        assertEquals(5, index.indexOf("\u00E9L\u00C9GANT"));
+        assertEquals(6, index.indexOf("\u0430\u0420\u0418\u0410\u041B"));
+        assertEquals(-1, index.indexOf("Dialo"));
+        assertEquals(-1, index.indexOf("Monospaced"));
+        assertEquals(-1, index.indexOf(null));
+    }
+
+    @Test
+    public void lookupAgreesWithEqualsIgnoreCase() {
+        final CaseInsensitiveStringIndex index = new CaseInsensitiveStringIndex(STRINGS);
+        // Characters, which differ in case mapping: dotted and dotless i,
+        // final sigma, sharp s, Kelvin sign and title case dz.
+        final String[] queries = {
+            "t\u0130tle", "t\u0131tle", "TItLE", "\u03C3\u03B9\u03B3\u03BC\u03B1",
+            "\u03A3\u0399\u0393\u039C\u0391", "\u03C2\u03B9\u03B3\u03BC\u03B1",
+            "STRASSE", "STRA\u00DFE", "stra\u1E9Ee", "\u212Aelvin", "\u01C5"
+        };
+        for (String query : queries) {
+            int expected = -1;
+            for (int i = 0; i < STRINGS.length; i++) {
+                if (STRINGS[i] != null && STRINGS[i].equalsIgnoreCase(query)) {
+                    expected = i;
+                    break;
+                }
+            }
+            assertEquals(query, expected, index.indexOf(query));
+        }
+    }
+
+    @Test
+    public void firstOfEqualStringsIsFound() {
+        final CaseInsensitiveStringIndex index =
+                new CaseInsensitiveStringIndex("a", "Serif", "SERIF", "serif");
+        assertEquals(1, index.indexOf("serif"));
+        assertEquals(1, index.indexOf("SERIF"));
+    }
+
+    @Test
+    public void foldIsConsistentWithEqualsIgnoreCase() {
+        for (char c1 = 0; c1 < 0x0600; c1++) {
+            final char f = CaseInsensitiveStringIndex.fold(c1);
+            assertEquals(String.valueOf(c1), f, CaseInsensitiveStringIndex.fold(f));
+            assertTrue(String.valueOf(c1).equalsIgnoreCase(String.valueOf(f)));
+        }
+    }
+
+    @Test
+    public void emptyIndexFindsNothing() {
+        final CaseInsensitiveStringIndex index = new CaseInsensitiveStringIndex();
+        assertEquals(0, index.size());
+        assertEquals(-1, index.indexOf(""));
+    }
+}
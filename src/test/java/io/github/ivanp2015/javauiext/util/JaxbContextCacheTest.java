@@ -0,0 +1,105 @@
+/*
+ * Java UI Extensions project.
+ * https://ivanp2015.github.io/javauiext
+ *
+ * Copyright (c) 2018, Ivan Pizhenko. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Ivan Pizhenko designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Ivan Pizhenko in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package io.github.ivanp2015.javauiext.util;
+
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Marshaller;
+import javax.xml.bind.Unmarshaller;
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Tests for {@link JaxbContextCache}.
+ *
+ * @author Ivan Pizhenko
+ * @since 0.1.1
+ */
+public class JaxbContextCacheTest {
+
+    private final JaxbContextCache cache = new JaxbContextCache();
+
+    @Test
+    public void contextIsCreatedOnce() throws JAXBException {
+        final JAXBContext context = cache.getContext(SampleItem.class);
+        assertSame(context, cache.getContext(SampleItem.class));
+        final JaxbContextCache.Statistics statistics = cache.getStatistics();
+        assertEquals(1L, statistics.getMisses());
+        assertEquals(1L, statistics.getHits());
+    }
+
+    @Test
+    public void releasedObjectsAreReused() throws JAXBException {
+        final Marshaller marshaller = cache.acquireMarshaller(SampleItem.class);
+        final Unmarshaller unmarshaller = cache.acquireUnmarshaller(SampleItem.class);
+        assertNotSame(marshaller, cache.acquireMarshaller(SampleItem.class));
+        cache.releaseMarshaller(SampleItem.class, marshaller);
+        cache.releaseUnmarshaller(SampleItem.class, unmarshaller);
+        assertSame(marshaller, cache.acquireMarshaller(SampleItem.class));
+        assertSame(unmarshaller, cache.acquireUnmarshaller(SampleItem.class));
+        assertEquals(2L, cache.getStatistics().getMarshallersCreated());
+        assertEquals(1L, cache.getStatistics().getUnmarshallersCreated());
+    }
+
+    @Test
+    public void evictDropsContextAndStaleObjects() throws JAXBException {
+        final JAXBContext context = cache.getContext(SampleItem.class);
+        final Marshaller pooled = cache.acquireMarshaller(SampleItem.class);
+        cache.releaseMarshaller(SampleItem.class, pooled);
+        final Marshaller marshaller = cache.acquireMarshaller(SampleItem.class);
+        final Unmarshaller unmarshaller = cache.acquireUnmarshaller(SampleItem.class);
+
+        cache.evict(SampleItem.class);
+        cache.releaseMarshaller(SampleItem.class, marshaller);
+        cache.releaseUnmarshaller(SampleItem.class, unmarshaller);
+
+        assertNotSame(context, cache.getContext(SampleItem.class));
+        assertNotSame(marshaller, cache.acquireMarshaller(SampleItem.class));
+        assertNotSame(unmarshaller, cache.acquireUnmarshaller(SampleItem.class));
+        assertEquals(1L, cache.getStatistics().getEvictions());
+    }
+
+    @Test
+    public void clearDropsContextAndStaleObjects() throws JAXBException {
+        final JAXBContext context = cache.getContext(SampleItem.class);
+        final Marshaller marshaller = cache.acquireMarshaller(SampleItem.class);
+
+        cache.clear();
+        cache.releaseMarshaller(SampleItem.class, marshaller);
+
+        assertNotSame(context, cache.getContext(SampleItem.class));
+        assertNotSame(marshaller, cache.acquireMarshaller(SampleItem.class));
+        assertEquals(2L, cache.getStatistics().getMisses());
+    }
+
+    @Test
+    public void foreignObjectsAreNotPooled() throws JAXBException {
+        final Marshaller foreign = JAXBContext.newInstance(SampleItem.class).createMarshaller();
+        cache.releaseMarshaller(SampleItem.class, foreign);
+        assertNotSame(foreign, cache.acquireMarshaller(SampleItem.class));
+    }
+}
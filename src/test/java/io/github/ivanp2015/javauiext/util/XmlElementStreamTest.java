@@ -0,0 +1,152 @@
+/*
+ * Java UI Extensions project.
+ * https://ivanp2015.github.io/javauiext
+ *
+ * Copyright (c) 2018, Ivan Pizhenko. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Ivan Pizhenko designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Ivan Pizhenko in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package io.github.ivanp2015.javauiext.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import javax.xml.bind.JAXBException;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests for {@link XmlElementReader} and {@link XmlElementWriter}.
+ *
+ * @author Ivan Pizhenko
+ * @since 0.1.1
+ */
+public class XmlElementStreamTest {
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void elementsRoundTrip() throws IOException, JAXBException {
+        final String path = path("items.xml");
+        final int count = 1000;
+        try (final XmlElementWriter<SampleItem> writer = JaxbXmlFileSerializer
+                .openXmlElementWriter(path, "items", null, SampleItem.class)) {
+            for (int i = 0; i < count; i++) {
+                writer.write(new SampleItem("item " + i, i));
+            }
+        }
+        final List<SampleItem> items = readAll(path, "item");
+        assertEquals(count, items.size());
+        for (int i = 0; i < count; i++) {
+            assertEquals("item " + i, items.get(i).name);
+            assertEquals(i, items.get(i).value);
+        }
+    }
+
+    @Test
+    public void elementsWithCustomNameRoundTrip() throws IOException, JAXBException {
+        final String path = path("entries.xml");
+        final List<SampleItem> items = new ArrayList<>();
+        items.add(new SampleItem("a", 1));
+        items.add(new SampleItem("b", 2));
+        JaxbXmlFileSerializer.saveElementsToXmlFile(path, "entries", "entry",
+                SampleItem.class, items);
+        final List<SampleItem> loaded = new ArrayList<>();
+        assertEquals(2L, JaxbXmlFileSerializer.loadElementsFromXmlFile(path, "entry",
+                SampleItem.class, loaded::add));
+        assertEquals("a", loaded.get(0).name);
+        assertEquals(2, loaded.get(1).value);
+    }
+
+    @Test
+    public void adjacentElementsAreRead() throws IOException, JAXBException {
+        final String path = path("adjacent.xml");
+        write(path, "<?xml version=\"1.0\"?><items><item><name>a</name><value>1</value></item>"
+                + "<other><item><name>skipped</name></item></other>"
+                + "<item><name>b</name><value>2</value></item><item><name>c</name></item></items>");
+        final List<SampleItem> items = readAll(path, "item");
+        assertEquals(3, items.size());
+        assertEquals("a", items.get(0).name);
+        assertEquals("b", items.get(1).name);
+        assertEquals(2, items.get(1).value);
+        assertEquals("c", items.get(2).name);
+    }
+
+    @Test
+    public void emptyRootHasNoElements() throws IOException, JAXBException {
+        final String path = path("empty.xml");
+        write(path, "<?xml version=\"1.0\"?><items/>");
+        assertEquals(0, readAll(path, "item").size());
+
+        try (final XmlElementWriter<SampleItem> writer = JaxbXmlFileSerializer
+                .openXmlElementWriter(path, "items", null, SampleItem.class)) {
+            // No elements.
+        }
+        assertEquals(0, readAll(path, "item").size());
+    }
+
+    @Test
+    public void closeAfterFailureDiscardsOutput() throws IOException, JAXBException {
+        final String path = path("failed.xml");
+        final byte[] original = "<?xml version=\"1.0\"?><items/>".getBytes(StandardCharsets.UTF_8);
+        Files.write(new File(path).toPath(), original);
+        try (final XmlElementWriter<SampleItem> writer = JaxbXmlFileSerializer
+                .openXmlElementWriter(path, "items", null, SampleItem.class)) {
+            writer.write(new SampleItem("a", 1));
+            try {
+                writer.write(null);
+                fail("null element must not be written");
+            } catch (JAXBException | RuntimeException ex) {
+                // Expected.
+            }
+        }
+        assertArrayEquals(original, Files.readAllBytes(new File(path).toPath()));
+        assertEquals(1, folder.getRoot().list().length);
+    }
+
+    private String path(String name) {
+        return new File(folder.getRoot(), name).getPath();
+    }
+
+    private static void write(String path, String content) throws IOException {
+        Files.write(new File(path).toPath(), content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static List<SampleItem> readAll(String path, String elementName)
+            throws IOException, JAXBException {
+        final List<SampleItem> items = new ArrayList<>();
+        try (final XmlElementReader<SampleItem> reader = JaxbXmlFileSerializer
+                .openXmlElementReader(path, elementName, SampleItem.class)) {
+            for (SampleItem item = reader.read(); item != null; item = reader.read()) {
+                items.add(item);
+            }
+            assertNull(reader.read());
+        }
+        return items;
+    }
+}
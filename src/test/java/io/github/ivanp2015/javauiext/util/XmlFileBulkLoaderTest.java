@@ -0,0 +1,93 @@
+/*
+ * Java UI Extensions project.
+ * https://ivanp2015.github.io/javauiext
+ *
+ * Copyright (c) 2018, Ivan Pizhenko. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Ivan Pizhenko designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Ivan Pizhenko in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+package io.github.ivanp2015.javauiext.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import javax.xml.bind.JAXBException;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link XmlFileBulkLoader}.
+ *
+ * @author Ivan Pizhenko
+ * @since 0.1.1
+ */
+public class XmlFileBulkLoaderTest {
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void failedFilesDoNotAffectOtherFiles() throws IOException, JAXBException {
+        // More files than one leaf task loads, with failures in different leaves.
+        final int count = 20;
+        final List<String> paths = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            final File file = new File(folder.getRoot(), "item" + i + ".xml");
+            if (i % 7 == 3) {
+                Files.write(file.toPath(), "<item><name>".getBytes(StandardCharsets.UTF_8));
+            } else if (i % 7 != 5) {
+                JaxbXmlFileSerializer.saveToXmlFile(file.getPath(), new SampleItem("n" + i, i));
+            }
+            paths.add(file.getPath());
+        }
+
+        final List<XmlFileLoadResult<SampleItem>> results =
+                JaxbXmlFileSerializer.loadFromXmlFiles(paths, SampleItem.class);
+
+        assertEquals(count, results.size());
+        for (int i = 0; i < count; i++) {
+            final XmlFileLoadResult<SampleItem> result = results.get(i);
+            assertEquals(paths.get(i), result.getPath());
+            if (i % 7 == 3 || i % 7 == 5) {
+                assertFalse(result.isLoaded());
+                assertNull(result.getValue());
+                assertNotNull(result.getError());
+            } else {
+                assertTrue(result.isLoaded());
+                assertNull(result.getError());
+                assertEquals("n" + i, result.getValue().name);
+                assertEquals(i, result.getValue().value);
+            }
+        }
+    }
+
+    @Test
+    public void emptyListGivesEmptyResult() {
+        assertTrue(JaxbXmlFileSerializer.loadFromXmlFiles(new ArrayList<String>(),
+                SampleItem.class).isEmpty());
+    }
+}
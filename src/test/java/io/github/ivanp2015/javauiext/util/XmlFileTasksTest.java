@@ -0,0 +1,156 @@
+/*
+ * Java UI Extensions project.
+ * https://ivanp2015.github.io/javauiext
+ *
+ * Copyright (c) 2018, Ivan Pizhenko. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Ivan Pizhenko designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Ivan Pizhenko in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package io.github.ivanp2015.javauiext.util;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests for {@link XmlFileTasks}.
+ *
+ * @author Ivan Pizhenko
+ * @since 0.1.1
+ */
+public class XmlFileTasksTest {
+
+    private static final long TIMEOUT_SECONDS = 10;
+
+    private ExecutorService executor;
+
+    @Before
+    public void setUp() {
+        executor = Executors.newFixedThreadPool(4);
+        XmlFileTasks.setExecutor(executor);
+    }
+
+    @After
+    public void tearDown() {
+        XmlFileTasks.setExecutor(null);
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void writesToSameFileRunInOrder() throws Exception {
+        final List<Integer> order = Collections.synchronizedList(new ArrayList<Integer>());
+        final AtomicInteger running = new AtomicInteger();
+        final CountDownLatch release = new CountDownLatch(1);
+        final List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            final int number = i;
+            futures.add(XmlFileTasks.write("ordered.xml", () -> {
+                if (running.incrementAndGet() != 1) {
+                    fail("writes overlap");
+                }
+                if (number == 0) {
+                    release.await();
+                }
+                order.add(number);
+                running.decrementAndGet();
+                return null;
+            }));
+        }
+        release.countDown();
+        for (CompletableFuture<Void> future : futures) {
+            future.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        }
+        for (int i = 0; i < 20; i++) {
+            assertEquals(Integer.valueOf(i), order.get(i));
+        }
+    }
+
+    @Test
+    public void readWaitsForEarlierWrite() throws Exception {
+        final CountDownLatch release = new CountDownLatch(1);
+        final String[] content = {"old"};
+        final CompletableFuture<Void> write = XmlFileTasks.write("read.xml", () -> {
+            release.await();
+            content[0] = "new";
+            return null;
+        });
+        final CompletableFuture<String> read = XmlFileTasks.read("./read.xml", () -> content[0]);
+        assertNotDone(read);
+        release.countDown();
+        write.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        assertEquals("new", read.get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void failedWriteDoesNotStopNextWrite() throws Exception {
+        final IOException error = new IOException("disk full");
+        final CompletableFuture<Void> failed = XmlFileTasks.write("failed.xml", () -> {
+            throw error;
+        });
+        final CompletableFuture<Void> next = XmlFileTasks.write("failed.xml", () -> null);
+        next.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        try {
+            failed.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            fail("write must fail");
+        } catch (ExecutionException ex) {
+            assertSame(error, ex.getCause());
+        }
+    }
+
+    @Test
+    public void writesToDifferentFilesDoNotWait() throws Exception {
+        final CountDownLatch release = new CountDownLatch(1);
+        final CompletableFuture<Void> blocked = XmlFileTasks.write("first.xml", () -> {
+            release.await();
+            return null;
+        });
+        try {
+            XmlFileTasks.write("second.xml", () -> null).get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            assertFalse(blocked.isDone());
+        } finally {
+            release.countDown();
+        }
+        blocked.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    }
+
+    private static void assertNotDone(CompletableFuture<?> future) throws Exception {
+        try {
+            future.get(200, TimeUnit.MILLISECONDS);
+            fail("future must not complete yet");
+        } catch (TimeoutException ex) {
+            assertFalse(future.isDone());
+        }
+    }
+}